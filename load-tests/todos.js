@@ -0,0 +1,37 @@
+// Compares the servlet and reactive todo APIs under the same read-heavy load.
+// k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<jwt> load-tests/todos.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const baseUrl = __ENV.BASE_URL || 'http://localhost:8080';
+const params = {
+    headers: {
+        Authorization: `Bearer ${__ENV.TOKEN}`,
+        Accept: 'application/json',
+    },
+};
+
+export const options = {
+    scenarios: {
+        dashboard: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 200 },
+                { duration: '1m', target: 1000 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(95)<500'],
+    },
+};
+
+export default function () {
+    const todos = http.get(`${baseUrl}/todos?limit=20`, params);
+    check(todos, { 'todos 200': (r) => r.status === 200 });
+    const summary = http.get(`${baseUrl}/todos/summary`, params);
+    check(summary, { 'summary 200': (r) => r.status === 200 });
+}
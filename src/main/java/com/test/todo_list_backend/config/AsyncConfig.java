@@ -0,0 +1,72 @@
+package com.test.todo_list_backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncConfig.class);
+
+    // the named executors below make Boot back off from its own, which MVC async requests and the streamed
+    // exports rely on, so it is declared here the way Boot would build it
+    @Bean(name = { TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME })
+    public AsyncTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder,
+                                                     SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder,
+                                                     @Value("${spring.threads.virtual.enabled}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return simpleAsyncTaskExecutorBuilder.virtualThreads(true).build();
+        }
+        return threadPoolTaskExecutorBuilder.build();
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailExecutor(@Value("${thumbnails.executor.pool-size}") int poolSize,
+                                                    @Value("${thumbnails.executor.queue-capacity}") int queueCapacity,
+                                                    @Value("${spring.threads.virtual.enabled}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setRejectedExecutionHandler((task, pool) -> LOGGER.warn("Thumbnail queue is full, skipping thumbnail generation"));
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor emailExecutor(@Value("${email.executor.pool-size}") int poolSize,
+                                                @Value("${email.outbox.batch-size}") int batchSize,
+                                                @Value("${spring.threads.virtual.enabled}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(batchSize);
+        executor.setThreadNamePrefix("email-");
+        executor.setVirtualThreads(virtualThreads);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor(@Value("${password-hashing.executor.pool-size}") int poolSize,
+                                                          @Value("${password-hashing.executor.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hashing-");
+        return executor;
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.test.todo_list_backend.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MongoIndexVerifier implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MongoIndexVerifier.class);
+
+    public enum Mode { CREATE, VERIFY, NONE }
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+    private final Mode mode;
+
+    public MongoIndexVerifier(MongoTemplate mongoTemplate, MongoMappingContext mappingContext,
+                              @Value("${mongo.indexes.mode}") Mode mode) {
+        this.mongoTemplate = mongoTemplate;
+        this.mappingContext = mappingContext;
+        this.mode = mode;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (mode == Mode.NONE) {
+            return;
+        }
+        List<String> problems = new ArrayList<>();
+        IndexResolver resolver = IndexResolver.create(mappingContext);
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+                continue;
+            }
+            String collection = entity.getCollection();
+            Map<String, Document> existing = mongoTemplate.getCollection(collection).listIndexes()
+                .into(new ArrayList<>()).stream()
+                .collect(Collectors.toMap(index -> index.getString("name"), Function.identity()));
+            for (IndexDefinition definition : resolver.resolveIndexFor(entity.getTypeInformation())) {
+                String name = definition.getIndexOptions().getString("name");
+                Document current = existing.get(name);
+                if (current == null && mode == Mode.CREATE) {
+                    LOGGER.info("Creating index {} on {}", name, collection);
+                    mongoTemplate.indexOps(collection).ensureIndex(definition);
+                }
+                else if (current == null) {
+                    problems.add("missing index %s on %s".formatted(name, collection));
+                }
+                else if (!matches(definition, current)) {
+                    problems.add("index %s on %s is %s but is declared as %s %s".formatted(
+                        name, collection, current.toJson(), definition.getIndexKeys().toJson(), definition.getIndexOptions().toJson()));
+                }
+            }
+        }
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("MongoDB indexes do not match the entity declarations: " + String.join("; ", problems));
+        }
+    }
+
+    private static boolean matches(IndexDefinition definition, Document current) {
+        Document options = definition.getIndexOptions();
+        return keys(textKeys(definition.getIndexKeys())).equals(keys(current.get("key", Document.class)))
+            && textFields(definition.getIndexKeys()).equals(current.get("weights", new Document()).keySet())
+            && options.getBoolean("unique", false) == current.getBoolean("unique", false)
+            && options.getBoolean("sparse", false) == current.getBoolean("sparse", false)
+            && Objects.equals(seconds(options.get("expireAfterSeconds")), seconds(current.get("expireAfterSeconds")))
+            && Objects.equals(options.get("partialFilterExpression"), current.get("partialFilterExpression"));
+    }
+
+    private static List<String> keys(Document keys) {
+        return keys.entrySet().stream()
+            .map(key -> key.getKey() + ":" + (key.getValue() instanceof Number number ? number.intValue() : key.getValue()))
+            .toList();
+    }
+
+    // MongoDB reports text indexes as _fts/_ftsx keys plus a weights document with the indexed fields.
+    private static Document textKeys(Document keys) {
+        Document normalized = new Document();
+        keys.forEach((field, value) -> {
+            if ("text".equals(value)) {
+                normalized.putIfAbsent("_fts", "text");
+                normalized.putIfAbsent("_ftsx", 1);
+            }
+            else {
+                normalized.put(field, value);
+            }
+        });
+        return normalized;
+    }
+
+    private static Set<String> textFields(Document keys) {
+        return keys.entrySet().stream()
+            .filter(key -> "text".equals(key.getValue()))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+    }
+
+    private static Long seconds(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.test.todo_list_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+public class TransactionConfig {
+
+    @Value("${mongo.transactions.enabled}")
+    private boolean transactionsEnabled;
+
+    // the manager is deliberately not a bean, so @Transactional stays inert and only the writes that must be
+    // atomic opt in; image upserts and bulk todo writes never run inside a Mongo transaction
+    @Bean
+    public TransactionOperations mongoTransactionOperations(MongoDatabaseFactory databaseFactory) {
+        if (!transactionsEnabled) {
+            return TransactionOperations.withoutTransaction();
+        }
+        return new TransactionTemplate(new MongoTransactionManager(databaseFactory));
+    }
+
+}
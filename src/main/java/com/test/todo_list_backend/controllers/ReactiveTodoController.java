@@ -0,0 +1,104 @@
+package com.test.todo_list_backend.controllers;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.test.todo_list_backend.models.dtos.TodoListItemResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoRequestDTO;
+import com.test.todo_list_backend.models.dtos.TodoResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoUpdateRequestDTO;
+import com.test.todo_list_backend.models.dtos.TodosSummaryResponseDTO;
+import com.test.todo_list_backend.security.AuthenticatedUser;
+import com.test.todo_list_backend.services.ReactiveTodoService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/todos")
+@RequiredArgsConstructor
+public class ReactiveTodoController {
+
+    private final ReactiveTodoService reactiveTodoService;
+
+    @GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public Flux<TodoListItemResponseDTO> findAllNotCompletedTodosFromConnectedUser(@AuthenticationPrincipal AuthenticatedUser user,
+                                                                                   @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        return this.reactiveTodoService.findNotCompletedTodos(user.getId(), limit);
+    }
+
+    @GetMapping(value = "/completed", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public Flux<TodoListItemResponseDTO> findAllCompletedTodosFromConnectedUser(@AuthenticationPrincipal AuthenticatedUser user,
+                                                                                @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        return this.reactiveTodoService.findCompletedTodos(user.getId(), limit);
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public Mono<TodoResponseDTO> findTodoById(@AuthenticationPrincipal AuthenticatedUser user, @PathVariable String id) {
+        return this.reactiveTodoService.findTodoById(user.getId(), id);
+    }
+
+    @GetMapping("/{id}/image")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public Mono<ResponseEntity<Resource>> findTodoImage(@AuthenticationPrincipal AuthenticatedUser user, @PathVariable String id,
+                                                        @RequestParam(name = "size", required = false) Integer size) {
+        return this.reactiveTodoService.findTodoImage(user.getId(), id, size)
+            .map(image -> ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(image.getContentType()))
+                .eTag(image.getImageId())
+                .header("X-Content-Type-Options", "nosniff")
+                .body(image.getContent()));
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public Mono<ResponseEntity<Void>> createTodo(@AuthenticationPrincipal AuthenticatedUser user,
+                                                 @RequestPart("request") @Valid TodoRequestDTO request,
+                                                 @RequestPart("image") FilePart image) {
+        return this.reactiveTodoService.createTodo(user.getId(), request, image)
+            .then(Mono.just(ResponseEntity.status(201).build()));
+    }
+
+    @PutMapping(value = "/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public Mono<ResponseEntity<Void>> updateTodo(@AuthenticationPrincipal AuthenticatedUser user, @PathVariable String id,
+                                                 @RequestPart("request") @Valid TodoUpdateRequestDTO request,
+                                                 @RequestPart(name = "image", required = false) FilePart image) {
+        return this.reactiveTodoService.updateTodo(user.getId(), id, request, image)
+            .then(Mono.just(ResponseEntity.status(200).build()));
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public Mono<ResponseEntity<Void>> deleteTodo(@AuthenticationPrincipal AuthenticatedUser user, @PathVariable String id) {
+        return this.reactiveTodoService.deleteTodo(user.getId(), id)
+            .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    @GetMapping("/summary")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public Mono<TodosSummaryResponseDTO> getTodosSummaryFromConnectedUser(@AuthenticationPrincipal AuthenticatedUser user) {
+        return this.reactiveTodoService.getTodosSummary(user.getId());
+    }
+
+}
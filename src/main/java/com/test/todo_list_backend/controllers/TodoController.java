@@ -1,54 +1,168 @@
 package com.test.todo_list_backend.controllers;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.test.todo_list_backend.models.dtos.CursorPageResponseDTO;
+import com.test.todo_list_backend.models.dtos.SliceResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoBatchRequestDTO;
+import com.test.todo_list_backend.models.dtos.TodoBatchResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoImageResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoImportResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoListItemResponseDTO;
 import com.test.todo_list_backend.models.dtos.TodoResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoSearchResultDTO;
 import com.test.todo_list_backend.models.dtos.TodoUpdateRequestDTO;
 import com.test.todo_list_backend.models.dtos.TodosSummaryResponseDTO;
 import com.test.todo_list_backend.models.dtos.TodoRequestDTO;
 import com.test.todo_list_backend.services.TodoService;
+import com.test.todo_list_backend.services.TodoTransferService;
+import com.test.todo_list_backend.services.exceptions.InvalidPayloadException;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/todos")
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoTransferService todoTransferService;
 
     @GetMapping
     @PreAuthorize("hasRole('ROLE_USER')")
-    public ResponseEntity<Page<TodoResponseDTO>> findAllNotCompletedTodosFromConnectedUser(Pageable pageable) {
-        Page<TodoResponseDTO> response = this.todoService.findAllNotCompletedTodosFromConnectedUser(pageable);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<Page<TodoListItemResponseDTO>> findAllNotCompletedTodosFromConnectedUser(Pageable pageable, WebRequest webRequest) {
+        return this.conditionalGet(webRequest, () -> this.todoService.findAllNotCompletedTodosFromConnectedUser(pageable));
     }
 
     @GetMapping("/completed")
     @PreAuthorize("hasRole('ROLE_USER')")
-    public ResponseEntity<Page<TodoResponseDTO>> findAllCompletedTodosFromConnectedUser(Pageable pageable) {
-        Page<TodoResponseDTO> response = this.todoService.findAllCompletedTodosFromConnectedUser(pageable);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<Page<TodoListItemResponseDTO>> findAllCompletedTodosFromConnectedUser(Pageable pageable, WebRequest webRequest) {
+        return this.conditionalGet(webRequest, () -> this.todoService.findAllCompletedTodosFromConnectedUser(pageable));
+    }
+
+    @GetMapping(params = { "withTotal=false", "!limit" })
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<SliceResponseDTO<TodoListItemResponseDTO>> findNotCompletedTodoSliceFromConnectedUser(Pageable pageable, WebRequest webRequest) {
+        return this.conditionalGet(webRequest, () -> this.todoService.findNotCompletedTodoSliceFromConnectedUser(pageable));
+    }
+
+    @GetMapping(value = "/completed", params = { "withTotal=false", "!limit" })
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<SliceResponseDTO<TodoListItemResponseDTO>> findCompletedTodoSliceFromConnectedUser(Pageable pageable, WebRequest webRequest) {
+        return this.conditionalGet(webRequest, () -> this.todoService.findCompletedTodoSliceFromConnectedUser(pageable));
+    }
+
+    @GetMapping(params = "limit")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<CursorPageResponseDTO<TodoListItemResponseDTO>> findNotCompletedTodosFromConnectedUserAfter(
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "limit") int limit,
+            WebRequest webRequest) {
+        return this.conditionalGet(webRequest, () -> this.todoService.findNotCompletedTodosFromConnectedUserAfter(after, limit));
+    }
+
+    @GetMapping(value = "/completed", params = "limit")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<CursorPageResponseDTO<TodoListItemResponseDTO>> findCompletedTodosFromConnectedUserAfter(
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "limit") int limit,
+            WebRequest webRequest) {
+        return this.conditionalGet(webRequest, () -> this.todoService.findCompletedTodosFromConnectedUserAfter(after, limit));
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<Page<TodoSearchResultDTO>> searchTodosFromConnectedUser(@RequestParam(name = "q") String query,
+                                                                                   Pageable pageable, WebRequest webRequest) {
+        return this.conditionalGet(webRequest, () -> this.todoService.searchTodosFromConnectedUser(query, pageable));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<StreamingResponseBody> exportTodosFromConnectedUser(
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        StreamingResponseBody body = outputStream -> {
+            if (!gzip) {
+                this.todoTransferService.exportTodosFromConnectedUser(outputStream);
+                return;
+            }
+            try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 8192)) {
+                this.todoTransferService.exportTodosFromConnectedUser(gzipOutputStream);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("todos.ndjson").build().toString())
+            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<TodoImportResponseDTO> importTodosToConnectedUser(
+            @RequestHeader(name = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            InputStream body) throws IOException {
+        return ResponseEntity.ok(this.todoTransferService.importTodosFromConnectedUser(decode(contentEncoding, body)));
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ROLE_USER')")
-    public ResponseEntity<TodoResponseDTO> findTodoById(@PathVariable String id) {
-        return ResponseEntity.ok(this.todoService.findTodoById(id));
+    public ResponseEntity<TodoResponseDTO> findTodoById(@PathVariable String id, WebRequest webRequest) {
+        return this.conditionalGet(webRequest, () -> this.todoService.findTodoById(id));
+    }
+
+    @GetMapping("/{id}/image")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<Resource> findTodoImage(@PathVariable String id,
+                                                @RequestParam(name = "size", required = false) Integer size) {
+        TodoImageResponseDTO image = this.todoService.findTodoImage(id, size);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(image.getContentType()))
+            .eTag(image.getImageId())
+            .header("X-Content-Type-Options", "nosniff")
+            .body(image.getContent());
     }
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -68,6 +182,12 @@ public class TodoController {
         return ResponseEntity.status(200).build();
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<TodoBatchResponseDTO> executeBatch(@RequestBody @Valid TodoBatchRequestDTO request) {
+        return ResponseEntity.ok(this.todoService.executeBatch(request));
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ROLE_USER')")
     public ResponseEntity<Void> deleteTodo(@PathVariable String id) {
@@ -77,9 +197,91 @@ public class TodoController {
 
     @GetMapping("/summary")
     @PreAuthorize("hasRole('ROLE_USER')")
-    public ResponseEntity<TodosSummaryResponseDTO> getTodosSummaryFromConnectedUser() {
-        TodosSummaryResponseDTO todosSummary = this.todoService.getTodosSummaryFromConnectedUser();
+    public ResponseEntity<TodosSummaryResponseDTO> getTodosSummaryFromConnectedUser(WebRequest webRequest) {
+        return this.conditionalGet(webRequest, this.todoService::getTodosSummaryVersionTagFromConnectedUser, () -> this.todoService.getTodosSummaryFromConnectedUser());
+    }
+
+    @PostMapping("/summary/reconcile")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<TodosSummaryResponseDTO> reconcileTodosSummaryFromConnectedUser() {
+        TodosSummaryResponseDTO todosSummary = this.todoService.reconcileTodosSummaryFromConnectedUser();
         return ResponseEntity.ok(todosSummary);
     }
 
+    private <T> ResponseEntity<T> conditionalGet(WebRequest webRequest, Supplier<T> body) {
+        return this.conditionalGet(webRequest, this.todoService::getTodosVersionTagFromConnectedUser, body);
+    }
+
+    private <T> ResponseEntity<T> conditionalGet(WebRequest webRequest, Supplier<String> todosVersionTag, Supplier<T> body) {
+        // the version only says the user's todos did not change, so the tag is scoped to the requested page or query
+        String versionTag = todosVersionTag.get() + "-" + requestKey(webRequest);
+        if (webRequest.checkNotModified(versionTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(versionTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .build();
+        }
+        return ResponseEntity.ok()
+            .eTag(versionTag)
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .body(body.get());
+    }
+
+    private static String requestKey(WebRequest webRequest) {
+        StringBuilder key = new StringBuilder(webRequest.getDescription(false));
+        new TreeMap<>(webRequest.getParameterMap()).forEach((name, values) -> key.append('&').append(name).append('=').append(String.join(",", values)));
+        return DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+    }
+
+    // gzip only when the client lists gzip or x-gzip (or a wildcard) with a non-zero q-value
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean accepted = qValue(parts) > 0;
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                return accepted;
+            }
+            if (coding.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static double qValue(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && parameter.substring(0, 2).equalsIgnoreCase("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                }
+                catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static InputStream decode(String contentEncoding, InputStream body) throws IOException {
+        String coding = contentEncoding == null ? "identity" : contentEncoding.trim().toLowerCase(Locale.ROOT);
+        if (coding.isEmpty() || coding.equals("identity")) {
+            return body;
+        }
+        if (!coding.equals("gzip") && !coding.equals("x-gzip")) {
+            throw new InvalidPayloadException("Unsupported Content-Encoding: " + contentEncoding);
+        }
+        try {
+            return new GZIPInputStream(body);
+        }
+        catch (ZipException | EOFException e) {
+            throw new InvalidPayloadException("Invalid gzip body: " + e.getMessage());
+        }
+    }
+
 }
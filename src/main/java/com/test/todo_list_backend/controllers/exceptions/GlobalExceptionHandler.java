@@ -1,5 +1,7 @@
 package com.test.todo_list_backend.controllers.exceptions;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -7,6 +9,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import com.test.todo_list_backend.models.dtos.TodoImportResponseDTO;
 import com.test.todo_list_backend.models.dtos.exceptions.StandardError;
 import com.test.todo_list_backend.models.dtos.exceptions.ValidationError;
 import com.test.todo_list_backend.services.exceptions.AccountNotActivatedException;
@@ -16,12 +19,17 @@ import com.test.todo_list_backend.services.exceptions.EmailException;
 import com.test.todo_list_backend.services.exceptions.ExpiredActivationCodeException;
 import com.test.todo_list_backend.services.exceptions.ForbiddenException;
 import com.test.todo_list_backend.services.exceptions.IncorrectCurrentPasswordException;
+import com.test.todo_list_backend.services.exceptions.InvalidPayloadException;
+import com.test.todo_list_backend.services.exceptions.PayloadTooLargeException;
 import com.test.todo_list_backend.services.exceptions.ResourceNotFoundException;
+import com.test.todo_list_backend.services.exceptions.ServiceOverloadedException;
+import com.test.todo_list_backend.services.exceptions.TodoImportAbortedException;
 import com.test.todo_list_backend.services.exceptions.UnauthorizedException;
 
 import jakarta.servlet.http.HttpServletRequest;
 
 @ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(EmailException.class)
@@ -97,4 +105,33 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(err);
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<StandardError> serviceOverloaded(ServiceOverloadedException ex, HttpServletRequest request) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        StandardError err = new StandardError(status.value(), "Service overloaded", ex.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(status)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1L, ex.getRetryAfter().toSeconds())))
+            .body(err);
+    }
+
+    @ExceptionHandler(PayloadTooLargeException.class)
+    public ResponseEntity<StandardError> payloadTooLarge(PayloadTooLargeException ex, HttpServletRequest request) {
+        HttpStatus status = HttpStatus.PAYLOAD_TOO_LARGE;
+        StandardError err = new StandardError(status.value(), "Payload too large", ex.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(status).body(err);
+    }
+
+    @ExceptionHandler(InvalidPayloadException.class)
+    public ResponseEntity<StandardError> invalidPayload(InvalidPayloadException ex, HttpServletRequest request) {
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        StandardError err = new StandardError(status.value(), "Invalid payload", ex.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(status).body(err);
+    }
+
+    @ExceptionHandler(TodoImportAbortedException.class)
+    public ResponseEntity<TodoImportResponseDTO> todoImportAborted(TodoImportAbortedException ex) {
+        HttpStatus status = ex.getCause() instanceof PayloadTooLargeException ? HttpStatus.PAYLOAD_TOO_LARGE : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(ex.getReport());
+    }
+
 }
@@ -0,0 +1,64 @@
+package com.test.todo_list_backend.controllers.exceptions;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import com.test.todo_list_backend.models.dtos.exceptions.StandardError;
+import com.test.todo_list_backend.models.dtos.exceptions.ValidationError;
+import com.test.todo_list_backend.services.exceptions.DefaultValidationError;
+import com.test.todo_list_backend.services.exceptions.ForbiddenException;
+import com.test.todo_list_backend.services.exceptions.ResourceNotFoundException;
+import com.test.todo_list_backend.services.exceptions.ServiceOverloadedException;
+
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(ForbiddenException.class)
+    public ResponseEntity<StandardError> forbidden(ForbiddenException ex, ServerHttpRequest request) {
+        HttpStatus status = HttpStatus.FORBIDDEN;
+        StandardError err = new StandardError(status.value(), "Forbidden", ex.getMessage(), request.getPath().value());
+        return ResponseEntity.status(status).body(err);
+    }
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<StandardError> notFound(ResourceNotFoundException ex, ServerHttpRequest request) {
+        HttpStatus status = HttpStatus.NOT_FOUND;
+        StandardError err = new StandardError(status.value(), "Not Found", ex.getMessage(), request.getPath().value());
+        return ResponseEntity.status(status).body(err);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ValidationError> invalidData(WebExchangeBindException ex, ServerHttpRequest request) {
+        HttpStatus status = HttpStatus.UNPROCESSABLE_ENTITY;
+        ValidationError err = new ValidationError(status.value(), "Validation error", "All fields are required", request.getPath().value());
+        for (FieldError f : ex.getBindingResult().getFieldErrors()) {
+            err.addError(f.getField(), f.getDefaultMessage());
+        }
+        return ResponseEntity.status(status).body(err);
+    }
+
+    @ExceptionHandler(DefaultValidationError.class)
+    public ResponseEntity<StandardError> defaultValidationError(DefaultValidationError ex, ServerHttpRequest request) {
+        HttpStatus status = HttpStatus.UNPROCESSABLE_ENTITY;
+        StandardError err = new StandardError(status.value(), "Validation error", ex.getMessage(), request.getPath().value());
+        return ResponseEntity.status(status).body(err);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<StandardError> serviceOverloaded(ServiceOverloadedException ex, ServerHttpRequest request) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        StandardError err = new StandardError(status.value(), "Service overloaded", ex.getMessage(), request.getPath().value());
+        return ResponseEntity.status(status)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1L, ex.getRetryAfter().toSeconds())))
+            .body(err);
+    }
+
+}
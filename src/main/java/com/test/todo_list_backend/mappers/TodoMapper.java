@@ -1,24 +1,36 @@
 package com.test.todo_list_backend.mappers;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+import com.test.todo_list_backend.models.dtos.TodoBatchOperationDTO;
+import com.test.todo_list_backend.models.dtos.TodoExportDTO;
+import com.test.todo_list_backend.models.dtos.TodoListItemResponseDTO;
 import com.test.todo_list_backend.models.dtos.TodoResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoSearchResultDTO;
 import com.test.todo_list_backend.models.dtos.TodoUpdateRequestDTO;
+import com.test.todo_list_backend.models.dtos.TodosSummaryResponseDTO;
 import com.test.todo_list_backend.models.dtos.TodoRequestDTO;
 import com.test.todo_list_backend.models.entities.Todo;
-import com.test.todo_list_backend.models.entities.User;
+import com.test.todo_list_backend.models.entities.TodoStats;
+import com.test.todo_list_backend.models.enums.ThumbnailSize;
+import com.test.todo_list_backend.models.enums.TodoBatchOperationType;
 import com.test.todo_list_backend.models.enums.TodoPriority;
 import com.test.todo_list_backend.models.enums.TodoStatus;
 
 public class TodoMapper {
 
-    public static Todo convertRequestDTOToEntity(TodoRequestDTO request, User user) {
+    public static Todo convertRequestDTOToEntity(TodoRequestDTO request, String userId) {
         return Todo.builder()
             .title(request.getTitle())
             .description(request.getDescription())
             .priority(TodoPriority.fromValue(request.getPriority()))
             .status(TodoStatus.NOT_STARTED)
-            .user(user)
+            .userId(userId)
             .createdAt(LocalDateTime.now())
             .expiresAt(request.getExpiresAt())
             .build();
@@ -31,8 +43,24 @@ public class TodoMapper {
             .description(todo.getDescription())
             .priority(todo.getPriority().getPriority())
             .status(todo.getStatus().getStatus())
-            .image(todo.getImage())
-            .userId(todo.getUser().getId())
+            .imageUrl(getImageUrl(todo))
+            .thumbnailUrls(getThumbnailUrls(todo))
+            .userId(todo.getUserId())
+            .createdAt(todo.getCreatedAt())
+            .expiresAt(todo.getExpiresAt())
+            .build();
+    }
+
+    public static TodoListItemResponseDTO convertEntityToListItemResponseDTO(Todo todo) {
+        return TodoListItemResponseDTO.builder()
+            .id(todo.getId())
+            .title(todo.getTitle())
+            .description(todo.getDescription())
+            .priority(todo.getPriority().getPriority())
+            .status(todo.getStatus().getStatus())
+            .hasImage(todo.getImageId() != null)
+            .imageUrl(getImageUrl(todo))
+            .thumbnailUrl(getThumbnailUrl(todo, ThumbnailSize.SMALL))
             .createdAt(todo.getCreatedAt())
             .expiresAt(todo.getExpiresAt())
             .build();
@@ -46,4 +74,147 @@ public class TodoMapper {
         todo.setExpiresAt(request.getExpiresAt());
     }
 
+    public static Todo convertBatchOperationToEntity(TodoBatchOperationDTO operation, String userId) {
+        if (isBlank(operation.getTitle()) || isBlank(operation.getDescription()) || operation.getPriority() == null || operation.getExpiresAt() == null) {
+            throw new IllegalArgumentException("title, description, priority and expiresAt are required");
+        }
+        return Todo.builder()
+            .title(operation.getTitle())
+            .description(operation.getDescription())
+            .priority(TodoPriority.fromValue(operation.getPriority()))
+            .status(operation.getStatus() != null ? TodoStatus.fromValue(operation.getStatus()) : TodoStatus.NOT_STARTED)
+            .userId(userId)
+            .createdAt(LocalDateTime.now())
+            .expiresAt(operation.getExpiresAt())
+            .build();
+    }
+
+    public static TodoSearchResultDTO convertEntityToSearchResultDTO(Todo todo) {
+        return TodoSearchResultDTO.builder()
+            .id(todo.getId())
+            .title(todo.getTitle())
+            .description(todo.getDescription())
+            .priority(todo.getPriority().getPriority())
+            .status(todo.getStatus().getStatus())
+            .createdAt(todo.getCreatedAt())
+            .expiresAt(todo.getExpiresAt())
+            .build();
+    }
+
+    public static TodoExportDTO convertEntityToExportDTO(Todo todo) {
+        return TodoExportDTO.builder()
+            .id(todo.getId())
+            .title(todo.getTitle())
+            .description(todo.getDescription())
+            .priority(todo.getPriority().getPriority())
+            .status(todo.getStatus().getStatus())
+            .createdAt(todo.getCreatedAt())
+            .expiresAt(todo.getExpiresAt())
+            .build();
+    }
+
+    public static Todo convertExportDTOToEntity(TodoExportDTO line, String userId) {
+        if (isBlank(line.getTitle()) || isBlank(line.getDescription()) || line.getPriority() == null || line.getExpiresAt() == null) {
+            throw new IllegalArgumentException("title, description, priority and expiresAt are required");
+        }
+        return Todo.builder()
+            .title(line.getTitle())
+            .description(line.getDescription())
+            .priority(TodoPriority.fromValue(line.getPriority()))
+            .status(line.getStatus() != null ? TodoStatus.fromValue(line.getStatus()) : TodoStatus.NOT_STARTED)
+            .userId(userId)
+            .createdAt(line.getCreatedAt() != null ? line.getCreatedAt() : LocalDateTime.now())
+            .expiresAt(line.getExpiresAt())
+            .build();
+    }
+
+    // returns the fields the operation carries, keyed by document field name, so the caller can $set only those
+    public static Map<String, Object> updateTodoEntity(Todo todo, TodoBatchOperationDTO operation, TodoBatchOperationType type) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        if (type == TodoBatchOperationType.UPDATE_STATUS) {
+            if (operation.getStatus() == null) {
+                throw new IllegalArgumentException("status is required");
+            }
+            todo.setStatus(TodoStatus.fromValue(operation.getStatus()));
+            changes.put("status", todo.getStatus());
+            return changes;
+        }
+        if (isBlank(operation.getTitle()) && isBlank(operation.getDescription()) && operation.getPriority() == null
+            && operation.getStatus() == null && operation.getExpiresAt() == null) {
+            throw new IllegalArgumentException("No fields to update");
+        }
+        if (!isBlank(operation.getTitle())) {
+            todo.setTitle(operation.getTitle());
+            changes.put("title", todo.getTitle());
+        }
+        if (!isBlank(operation.getDescription())) {
+            todo.setDescription(operation.getDescription());
+            changes.put("description", todo.getDescription());
+        }
+        if (operation.getPriority() != null) {
+            todo.setPriority(TodoPriority.fromValue(operation.getPriority()));
+            changes.put("priority", todo.getPriority());
+        }
+        if (operation.getStatus() != null) {
+            todo.setStatus(TodoStatus.fromValue(operation.getStatus()));
+            changes.put("status", todo.getStatus());
+        }
+        if (operation.getExpiresAt() != null) {
+            todo.setExpiresAt(operation.getExpiresAt());
+            changes.put("expiresAt", todo.getExpiresAt());
+        }
+        return changes;
+    }
+
+    public static TodosSummaryResponseDTO convertStatsToSummary(TodoStats stats) {
+        return convertStatsToSummary(stats, LocalDate.now());
+    }
+
+    public static TodosSummaryResponseDTO convertStatsToSummary(TodoStats stats, LocalDate today) {
+        long completedTodos = stats.countByStatus(TodoStatus.COMPLETED.name());
+        long inProgressTodos = stats.countByStatus(TodoStatus.IN_PROGRESS.name());
+        long notStartedTodos = stats.countByStatus(TodoStatus.NOT_STARTED.name());
+        long totalTodos = completedTodos + inProgressTodos + notStartedTodos;
+        long overdueTodos = stats.countOpenTodosExpiringBefore(today);
+
+        if (totalTodos == 0) {
+            return new TodosSummaryResponseDTO(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, overdueTodos);
+        }
+
+        BigDecimal completedTodosPercentage = BigDecimal.valueOf(completedTodos).divide(BigDecimal.valueOf(totalTodos), 2, RoundingMode.HALF_UP);
+        BigDecimal inProgressTodosPercentage = BigDecimal.valueOf(inProgressTodos).divide(BigDecimal.valueOf(totalTodos), 2, RoundingMode.HALF_UP);
+        BigDecimal notStartedTodosPercentage = BigDecimal.valueOf(notStartedTodos).divide(BigDecimal.valueOf(totalTodos), 2, RoundingMode.HALF_UP);
+
+        return new TodosSummaryResponseDTO(completedTodosPercentage, inProgressTodosPercentage, notStartedTodosPercentage, overdueTodos);
+    }
+
+    public static String getImageUrl(Todo todo) {
+        if (todo.getImageId() == null) {
+            return null;
+        }
+        return "/todos/" + todo.getId() + "/image";
+    }
+
+    public static String getThumbnailUrl(Todo todo, ThumbnailSize size) {
+        if (todo.getImageId() == null) {
+            return null;
+        }
+        return getImageUrl(todo) + "?size=" + size.getSize();
+    }
+
+    public static Map<Integer, String> getThumbnailUrls(Todo todo) {
+        if (todo.getImageId() == null) {
+            return null;
+        }
+        Map<Integer, String> thumbnailUrls = new LinkedHashMap<>();
+        for (ThumbnailSize size : ThumbnailSize.values()) {
+            thumbnailUrls.put(size.getSize(), getThumbnailUrl(todo, size));
+        }
+        return thumbnailUrls;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
 }
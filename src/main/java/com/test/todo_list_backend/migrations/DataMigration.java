@@ -0,0 +1,13 @@
+package com.test.todo_list_backend.migrations;
+
+public interface DataMigration {
+
+    String getId();
+    int migrateBatch(int batchSize);
+
+    // only migrations the running code depends on hold back readiness, the others complete in the background
+    default boolean isRequired() {
+        return false;
+    }
+
+}
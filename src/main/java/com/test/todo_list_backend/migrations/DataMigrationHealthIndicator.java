@@ -0,0 +1,20 @@
+package com.test.todo_list_backend.migrations;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component("dataMigrations")
+@RequiredArgsConstructor
+public class DataMigrationHealthIndicator implements HealthIndicator {
+
+    private final DataMigrationRunner dataMigrationRunner;
+
+    @Override
+    public Health health() {
+        return dataMigrationRunner.isCompleted() ? Health.up().build() : Health.outOfService().build();
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.test.todo_list_backend.migrations;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class DataMigrationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataMigrationRunner.class);
+    private static final String COLLECTION = "data_migrations";
+
+    private final List<DataMigration> migrations;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${migrations.batch-size}")
+    private int batchSize;
+    @Value("${migrations.retry.initial-backoff}")
+    private Duration initialBackoff;
+    @Value("${migrations.retry.max-backoff}")
+    private Duration maxBackoff;
+
+    private volatile boolean completed;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (migrations.stream().noneMatch(DataMigration::isRequired)) {
+            this.completed = true;
+        }
+        if (!migrations.isEmpty()) {
+            Thread.ofPlatform().name("data-migrations").daemon().start(this::runAll);
+        }
+    }
+
+    // true once every required migration has finished, optional ones may still be running
+    public boolean isCompleted() {
+        return this.completed;
+    }
+
+    public void runAll() {
+        List<DataMigration> ordered = migrations.stream()
+            .sorted(Comparator.comparing(DataMigration::isRequired).reversed())
+            .toList();
+        for (DataMigration migration : ordered) {
+            if (!migration.isRequired()) {
+                // required migrations sort first, so all of them are done by now
+                this.completed = true;
+            }
+            if (!this.runWithRetry(migration)) {
+                return;
+            }
+        }
+        this.completed = true;
+    }
+
+    private boolean runWithRetry(DataMigration migration) {
+        Duration backoff = initialBackoff;
+        while (true) {
+            try {
+                this.run(migration);
+                return true;
+            }
+            catch (RuntimeException e) {
+                LOGGER.error("Data migration {} failed, retrying in {}", migration.getId(), backoff, e);
+            }
+            try {
+                Thread.sleep(backoff);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            Duration next = backoff.multipliedBy(2);
+            backoff = next.compareTo(maxBackoff) > 0 ? maxBackoff : next;
+        }
+    }
+
+    private void run(DataMigration migration) {
+        if (mongoTemplate.exists(query(where("_id").is(migration.getId())), COLLECTION)) {
+            return;
+        }
+        long migrated = 0;
+        int batch;
+        while ((batch = migration.migrateBatch(batchSize)) > 0) {
+            migrated += batch;
+            LOGGER.info("Data migration {} rewrote {} documents so far", migration.getId(), migrated);
+        }
+        mongoTemplate.save(new Document("_id", migration.getId()).append("completedAt", Instant.now()), COLLECTION);
+        LOGGER.info("Data migration {} completed after rewriting {} documents", migration.getId(), migrated);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.test.todo_list_backend.migrations;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.Instant;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class DataMigrationSkipLog {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataMigrationSkipLog.class);
+    private static final String COLLECTION = "data_migration_skips";
+    private static final String SKIPPED_FIELD = "skippedMigrations";
+
+    private final MongoTemplate mongoTemplate;
+
+    // documents a migration cannot rewrite are tagged so its pending query stops returning them, and kept for manual review
+    public void skip(String migrationId, String collection, Object documentId, String reason) {
+        LOGGER.warn("Data migration {} skipped {} document {}: {}", migrationId, collection, documentId, reason);
+        mongoTemplate.updateFirst(query(where("_id").is(documentId)), new Update().addToSet(SKIPPED_FIELD, migrationId), collection);
+        mongoTemplate.insert(new Document("migrationId", migrationId)
+            .append("collection", collection)
+            .append("documentId", documentId)
+            .append("reason", reason)
+            .append("skippedAt", Instant.now()), COLLECTION);
+    }
+
+    public static Criteria notSkippedBy(String migrationId) {
+        return where(SKIPPED_FIELD).ne(migrationId);
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.test.todo_list_backend.migrations;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.util.Base64;
+import java.util.List;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.test.todo_list_backend.services.ImageService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "migrations.todo-images.enabled", havingValue = "true", matchIfMissing = true)
+public class TodoImageMigration implements DataMigration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TodoImageMigration.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final ImageService imageService;
+    private final DataMigrationSkipLog skipLog;
+
+    @Override
+    public String getId() {
+        return "todo-images";
+    }
+
+    @Override
+    public boolean isRequired() {
+        // todos still holding an embedded image would report hasImage=false and 404 until rewritten
+        return true;
+    }
+
+    @Override
+    public int migrateBatch(int batchSize) {
+        Query pending = query(where("image").type(2).andOperator(DataMigrationSkipLog.notSkippedBy(this.getId()))).limit(batchSize);
+        pending.fields().include("_id", "image");
+        List<Document> batch = mongoTemplate.find(pending, Document.class, "todos");
+        for (Document todo : batch) {
+            migrateTodo(todo);
+        }
+        return batch.size();
+    }
+
+    private void migrateTodo(Document todo) {
+        String dataUri = todo.getString("image");
+        int separator = dataUri.indexOf(";base64,");
+        Update update = new Update().unset("image");
+        String imageId = null;
+        if (dataUri.startsWith("data:") && separator > 0) {
+            String contentType = dataUri.substring("data:".length(), separator);
+            byte[] bytes;
+            try {
+                bytes = Base64.getDecoder().decode(dataUri.substring(separator + ";base64,".length()));
+            }
+            catch (IllegalArgumentException e) {
+                skipLog.skip(this.getId(), "todos", todo.get("_id"), "Invalid base64 image: " + e.getMessage());
+                return;
+            }
+            imageId = imageService.store(new ByteArrayResource(bytes), todo.getObjectId("_id").toHexString(), contentType);
+            update.set("imageId", imageId);
+        }
+        else {
+            LOGGER.warn("Dropping todo {} image that is not a base64 data URI", todo.get("_id"));
+        }
+        long matched = mongoTemplate.updateFirst(query(where("_id").is(todo.get("_id")).and("image").is(dataUri)), update, "todos")
+            .getMatchedCount();
+        if (matched == 0 && imageId != null) {
+            imageService.release(imageId);
+        }
+    }
+
+}
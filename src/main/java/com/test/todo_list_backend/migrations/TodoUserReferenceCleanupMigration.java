@@ -0,0 +1,56 @@
+package com.test.todo_list_backend.migrations;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "migrations.todo-user-references.drop-legacy", havingValue = "true")
+public class TodoUserReferenceCleanupMigration implements DataMigration {
+
+    private final MongoTemplate mongoTemplate;
+    private final DataMigrationSkipLog skipLog;
+
+    @Override
+    public String getId() {
+        return "todo-user-references-drop-legacy";
+    }
+
+    @Override
+    public int migrateBatch(int batchSize) {
+        Query pending = query(where("user").exists(true).andOperator(DataMigrationSkipLog.notSkippedBy(this.getId()))).limit(batchSize);
+        pending.fields().include("_id");
+        List<Object> ids = mongoTemplate.find(pending, Document.class, "todos").stream()
+            .map(todo -> todo.get("_id"))
+            .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        mongoTemplate.getCollection("todos").updateMany(
+            Filters.and(Filters.in("_id", ids), Filters.exists("userId", false)),
+            List.of(new Document("$set", new Document("userId", "$user._id"))));
+        // a legacy owner without an _id leaves userId unset, so the todo would otherwise be picked up forever
+        Query unresolved = query(where("_id").in(ids).and("userId").exists(false));
+        unresolved.fields().include("_id");
+        mongoTemplate.find(unresolved, Document.class, "todos")
+            .forEach(todo -> skipLog.skip(this.getId(), "todos", todo.get("_id"), "Legacy user reference has no _id"));
+        mongoTemplate.getCollection("todos").updateMany(
+            Filters.and(Filters.in("_id", ids), Filters.exists("userId")),
+            Updates.unset("user"));
+        return ids.size();
+    }
+
+}
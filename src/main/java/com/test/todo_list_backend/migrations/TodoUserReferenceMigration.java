@@ -0,0 +1,58 @@
+package com.test.todo_list_backend.migrations;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.client.model.Filters;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "migrations.todo-user-references.enabled", havingValue = "true", matchIfMissing = true)
+public class TodoUserReferenceMigration implements DataMigration {
+
+    private final MongoTemplate mongoTemplate;
+    private final DataMigrationSkipLog skipLog;
+
+    @Override
+    public String getId() {
+        return "todo-user-references";
+    }
+
+    @Override
+    public boolean isRequired() {
+        // todo stats are counted by userId, so they stay unavailable until every todo has one
+        return true;
+    }
+
+    @Override
+    public int migrateBatch(int batchSize) {
+        Query pending = query(where("userId").exists(false).and("user").exists(true).andOperator(DataMigrationSkipLog.notSkippedBy(this.getId()))).limit(batchSize);
+        pending.fields().include("_id");
+        List<Object> ids = mongoTemplate.find(pending, Document.class, "todos").stream()
+            .map(todo -> todo.get("_id"))
+            .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        mongoTemplate.getCollection("todos").updateMany(
+            Filters.and(Filters.in("_id", ids), Filters.exists("userId", false)),
+            List.of(new Document("$set", new Document("userId", "$user._id"))));
+        // a legacy owner without an _id leaves userId unset, so the todo would otherwise be picked up forever
+        Query unresolved = query(where("_id").in(ids).and("userId").exists(false));
+        unresolved.fields().include("_id");
+        mongoTemplate.find(unresolved, Document.class, "todos")
+            .forEach(todo -> skipLog.skip(this.getId(), "todos", todo.get("_id"), "Legacy user reference has no _id"));
+        return ids.size();
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.test.todo_list_backend.models.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResponseDTO<T> {
+
+    private List<T> content;
+    private String nextCursor;
+
+}
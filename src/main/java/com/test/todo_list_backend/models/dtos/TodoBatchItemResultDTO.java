@@ -0,0 +1,19 @@
+package com.test.todo_list_backend.models.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TodoBatchItemResultDTO {
+
+    private int index;
+    private String id;
+    private String status;
+    private String message;
+
+}
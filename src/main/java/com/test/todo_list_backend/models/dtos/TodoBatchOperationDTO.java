@@ -0,0 +1,28 @@
+package com.test.todo_list_backend.models.dtos;
+
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TodoBatchOperationDTO {
+
+    @NotNull(message = "Required field")
+    private Integer type;
+    private String id;
+    private String title;
+    private String description;
+    private Integer priority;
+    private Integer status;
+    private LocalDateTime expiresAt;
+
+}
@@ -0,0 +1,25 @@
+package com.test.todo_list_backend.models.dtos;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TodoBatchRequestDTO {
+
+    @NotEmpty(message = "Required field")
+    @Size(max = 500, message = "At most 500 operations per batch")
+    private List<@Valid TodoBatchOperationDTO> operations;
+
+}
@@ -0,0 +1,18 @@
+package com.test.todo_list_backend.models.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TodoBatchResponseDTO {
+
+    private List<TodoBatchItemResultDTO> results;
+
+}
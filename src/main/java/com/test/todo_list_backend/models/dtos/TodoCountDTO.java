@@ -0,0 +1,22 @@
+package com.test.todo_list_backend.models.dtos;
+
+import com.test.todo_list_backend.models.enums.TodoPriority;
+import com.test.todo_list_backend.models.enums.TodoStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TodoCountDTO {
+
+    private TodoStatus status;
+    private TodoPriority priority;
+    private String expiryDate;
+    private long count;
+
+}
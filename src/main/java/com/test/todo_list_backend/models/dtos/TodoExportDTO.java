@@ -0,0 +1,26 @@
+package com.test.todo_list_backend.models.dtos;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TodoExportDTO {
+
+    private String id;
+    private String title;
+    private String description;
+    private Integer priority;
+    private Integer status;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+
+}
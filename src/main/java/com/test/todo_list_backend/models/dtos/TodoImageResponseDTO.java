@@ -0,0 +1,20 @@
+package com.test.todo_list_backend.models.dtos;
+
+import org.springframework.core.io.Resource;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TodoImageResponseDTO {
+
+    private String imageId;
+    private String contentType;
+    private Resource content;
+
+}
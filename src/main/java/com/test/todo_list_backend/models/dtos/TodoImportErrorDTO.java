@@ -0,0 +1,17 @@
+package com.test.todo_list_backend.models.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TodoImportErrorDTO {
+
+    private long line;
+    private String message;
+
+}
@@ -0,0 +1,22 @@
+package com.test.todo_list_backend.models.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TodoImportResponseDTO {
+
+    private long imported;
+    private long failed;
+    private List<TodoImportErrorDTO> errors;
+    // set when a limit stopped the import, everything counted in imported has been stored
+    private String abortedReason;
+
+}
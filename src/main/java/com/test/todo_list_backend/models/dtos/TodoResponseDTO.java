@@ -1,6 +1,7 @@
 package com.test.todo_list_backend.models.dtos;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,7 +21,8 @@ public class TodoResponseDTO {
     private String description;
     private Integer priority;
     private Integer status;
-    private String image;
+    private String imageUrl;
+    private Map<Integer, String> thumbnailUrls;
     private String userId;
     private LocalDateTime createdAt;
     private LocalDateTime expiresAt;
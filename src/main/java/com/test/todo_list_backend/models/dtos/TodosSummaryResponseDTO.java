@@ -16,5 +16,6 @@ public class TodosSummaryResponseDTO {
     private BigDecimal completedTodosPercentage;
     private BigDecimal inProgressTodosPercentage;
     private BigDecimal notStartedTodosPercentage;
+    private long overdueTodos;
 
 }
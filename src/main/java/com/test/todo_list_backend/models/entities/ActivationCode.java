@@ -1,8 +1,13 @@
 package com.test.todo_list_backend.models.entities;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -24,14 +29,24 @@ public class ActivationCode {
     private String id;
     @DBRef(lazy = true)
     private User user;
+    @Indexed(unique = true)
     private String code;
     private LocalDateTime createdAt;
+    @Indexed(name = "expiresAt_ttl", expireAfter = "1d")
     private LocalDateTime expiresAt;
-    private boolean isValidated;
-    private LocalDateTime validatedAt;
 
     public boolean isValid() {
         return this.expiresAt.isAfter(LocalDateTime.now());
     }
 
+    public static String hash(String code) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(code.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
 }
@@ -0,0 +1,35 @@
+package com.test.todo_list_backend.models.entities;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document(collection = "images")
+public class StoredImage {
+
+    @Id
+    private String id;
+    private String blobId;
+    private String contentType;
+    private long size;
+    @Indexed(name = "refCount_orphans", partialFilter = "{ 'refCount': { '$lte': 0 } }")
+    private long refCount;
+    private Map<String, String> thumbnailIds;
+    private String thumbnailContentType;
+    private LocalDateTime createdAt;
+
+}
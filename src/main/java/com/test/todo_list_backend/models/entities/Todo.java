@@ -3,7 +3,10 @@ package com.test.todo_list_backend.models.entities;
 import java.time.LocalDateTime;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
 
 import com.test.todo_list_backend.models.enums.TodoPriority;
 import com.test.todo_list_backend.models.enums.TodoStatus;
@@ -18,8 +21,11 @@ import lombok.Setter;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Document(collection = "todos")
+@CompoundIndex(name = "userId_status_expiresAt", def = "{ 'userId': 1, 'status': 1, 'expiresAt': 1 }")
+@CompoundIndex(name = "userId_status_createdAt_id", def = "{ 'userId': 1, 'status': 1, 'createdAt': -1, '_id': -1 }")
+@CompoundIndex(name = "userId_title_description_text", def = "{ 'userId': 1, 'title': 'text', 'description': 'text' }")
 public class Todo {
 
     @Id
@@ -28,8 +34,9 @@ public class Todo {
     private String description;
     private TodoPriority priority;
     private TodoStatus status;
-    private String image;
-    private User user;
+    private String imageId;
+    @Field(targetType = FieldType.OBJECT_ID)
+    private String userId;
     private LocalDateTime createdAt;
     private LocalDateTime expiresAt;
 
@@ -0,0 +1,50 @@
+package com.test.todo_list_backend.models.entities;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document(collection = "todo_stats")
+public class TodoStats {
+
+    @Id
+    private String userId;
+    private Map<String, Long> statusCounts;
+    private Map<String, Long> priorityCounts;
+    private Map<String, Long> openTodosByExpiryDate;
+    private LocalDateTime reconciledAt;
+    private long version;
+
+    public String versionTag() {
+        long reconciledAtMillis = this.reconciledAt == null ? 0L : this.reconciledAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        return this.version + "-" + Long.toHexString(reconciledAtMillis);
+    }
+
+    public long countByStatus(String status) {
+        return this.statusCounts.getOrDefault(status, 0L);
+    }
+
+    public long countOpenTodosExpiringBefore(LocalDate date) {
+        String key = date.toString();
+        return this.openTodosByExpiryDate.entrySet().stream()
+            .filter(entry -> entry.getKey().compareTo(key) < 0)
+            .mapToLong(Map.Entry::getValue)
+            .sum();
+    }
+
+}
@@ -2,10 +2,12 @@ package com.test.todo_list_backend.models.entities;
 
 import java.security.Principal;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.security.core.GrantedAuthority;
@@ -29,6 +31,7 @@ public class User implements UserDetails, Principal {
     private String id;
     private String fullName;
     private String userName;
+    @Indexed(unique = true)
     private String email;
     private String password;
     private boolean isActive;
@@ -59,4 +62,17 @@ public class User implements UserDetails, Principal {
         this.roles.add(role);
     }
 
+    public User copy() {
+        return User.builder()
+            .id(this.id)
+            .fullName(this.fullName)
+            .userName(this.userName)
+            .email(this.email)
+            .password(this.password)
+            .isActive(this.isActive)
+            .roles(this.roles == null ? null : new HashSet<>(this.roles))
+            .todos(this.todos)
+            .build();
+    }
+
 }
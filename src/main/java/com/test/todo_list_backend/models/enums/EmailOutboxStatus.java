@@ -0,0 +1,28 @@
+package com.test.todo_list_backend.models.enums;
+
+public enum EmailOutboxStatus {
+
+    PENDING(1),
+    SENT(2),
+    DEAD(3);
+
+    private int status;
+
+    private EmailOutboxStatus(int status) {
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return this.status;
+    }
+
+    public static EmailOutboxStatus fromValue(int value) {
+        for (EmailOutboxStatus status : EmailOutboxStatus.values()) {
+            if (status.getStatus() == value) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Invalid status value: " + value);
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.test.todo_list_backend.models.enums;
+
+public enum ThumbnailSize {
+
+    SMALL(64),
+    MEDIUM(256),
+    LARGE(1024);
+
+    private int size;
+
+    private ThumbnailSize(int size) {
+        this.size = size;
+    }
+
+    public int getSize() {
+        return this.size;
+    }
+
+    public static ThumbnailSize fromValue(int value) {
+        for (ThumbnailSize size : ThumbnailSize.values()) {
+            if (size.getSize() == value) {
+                return size;
+            }
+        }
+        throw new IllegalArgumentException("Invalid thumbnail size: " + value);
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.test.todo_list_backend.models.enums;
+
+public enum TodoBatchOperationType {
+
+    CREATE(1),
+    UPDATE_STATUS(2),
+    UPDATE_FIELDS(3),
+    DELETE(4);
+
+    private int type;
+
+    private TodoBatchOperationType(int type) {
+        this.type = type;
+    }
+
+    public int getType() {
+        return this.type;
+    }
+
+    public static TodoBatchOperationType fromValue(int value) {
+        for (TodoBatchOperationType type : TodoBatchOperationType.values()) {
+            if (type.getType() == value) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Invalid operation type value: " + value);
+    }
+
+}
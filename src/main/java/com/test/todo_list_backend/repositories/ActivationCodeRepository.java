@@ -10,5 +10,6 @@ import java.util.Optional;
 public interface ActivationCodeRepository extends MongoRepository<ActivationCode,String> {
 
     Optional<ActivationCode> findByCode(String code);
+    boolean existsByCode(String code);
 
 }
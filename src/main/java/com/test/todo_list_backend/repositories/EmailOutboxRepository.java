@@ -0,0 +1,11 @@
+package com.test.todo_list_backend.repositories;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.test.todo_list_backend.models.entities.EmailOutboxMessage;
+
+@Repository
+public interface EmailOutboxRepository extends MongoRepository<EmailOutboxMessage,String>, EmailOutboxRepositoryCustom {
+
+}
@@ -0,0 +1,11 @@
+package com.test.todo_list_backend.repositories;
+
+import java.time.LocalDateTime;
+
+import com.test.todo_list_backend.models.entities.EmailOutboxMessage;
+
+public interface EmailOutboxRepositoryCustom {
+
+    EmailOutboxMessage claimNext(LocalDateTime now, LocalDateTime leaseUntil);
+
+}
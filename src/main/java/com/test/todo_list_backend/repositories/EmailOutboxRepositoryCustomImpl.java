@@ -0,0 +1,33 @@
+package com.test.todo_list_backend.repositories;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.test.todo_list_backend.models.entities.EmailOutboxMessage;
+import com.test.todo_list_backend.models.enums.EmailOutboxStatus;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class EmailOutboxRepositoryCustomImpl implements EmailOutboxRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public EmailOutboxMessage claimNext(LocalDateTime now, LocalDateTime leaseUntil) {
+        return mongoTemplate.findAndModify(
+            query(where("status").is(EmailOutboxStatus.PENDING).and("nextAttemptAt").lte(now))
+                .with(Sort.by("nextAttemptAt")),
+            new Update().set("nextAttemptAt", leaseUntil).inc("attempts", 1),
+            FindAndModifyOptions.options().returnNew(true),
+            EmailOutboxMessage.class);
+    }
+
+}
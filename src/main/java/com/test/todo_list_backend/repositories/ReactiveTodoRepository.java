@@ -0,0 +1,15 @@
+package com.test.todo_list_backend.repositories;
+
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.test.todo_list_backend.models.entities.Todo;
+
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveTodoRepository extends ReactiveMongoRepository<Todo,String>, ReactiveTodoRepositoryCustom {
+
+    Mono<Todo> findByIdAndUserId(String id, String userId);
+
+}
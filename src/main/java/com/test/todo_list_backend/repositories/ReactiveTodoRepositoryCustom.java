@@ -0,0 +1,15 @@
+package com.test.todo_list_backend.repositories;
+
+import java.util.Collection;
+
+import com.test.todo_list_backend.models.entities.Todo;
+import com.test.todo_list_backend.models.enums.TodoStatus;
+import com.test.todo_list_backend.utils.TodoCursor;
+
+import reactor.core.publisher.Flux;
+
+public interface ReactiveTodoRepositoryCustom {
+
+    Flux<Todo> findListItemsAfter(String userId, Collection<TodoStatus> statuses, TodoCursor after, int limit);
+
+}
@@ -0,0 +1,24 @@
+package com.test.todo_list_backend.repositories;
+
+import java.util.Collection;
+
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import com.test.todo_list_backend.models.entities.Todo;
+import com.test.todo_list_backend.models.enums.TodoStatus;
+import com.test.todo_list_backend.utils.TodoCursor;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+@RequiredArgsConstructor
+public class ReactiveTodoRepositoryCustomImpl implements ReactiveTodoRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Flux<Todo> findListItemsAfter(String userId, Collection<TodoStatus> statuses, TodoCursor after, int limit) {
+        return reactiveMongoTemplate.find(TodoRepositoryCustomImpl.listItemsAfterQuery(userId, statuses, after, limit), Todo.class);
+    }
+
+}
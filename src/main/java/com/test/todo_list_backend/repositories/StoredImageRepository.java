@@ -0,0 +1,16 @@
+package com.test.todo_list_backend.repositories;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.test.todo_list_backend.models.entities.StoredImage;
+
+@Repository
+public interface StoredImageRepository extends MongoRepository<StoredImage,String>, StoredImageRepositoryCustom {
+
+    List<StoredImage> findByRefCountLessThanEqual(long refCount, Pageable pageable);
+
+}
@@ -0,0 +1,14 @@
+package com.test.todo_list_backend.repositories;
+
+import java.util.Map;
+
+import com.test.todo_list_backend.models.entities.StoredImage;
+
+public interface StoredImageRepositoryCustom {
+
+    StoredImage incrementReferences(String id, long delta);
+    StoredImage insertOrIncrementReferences(StoredImage image);
+    boolean setThumbnails(String id, String blobId, Map<String, String> thumbnailIds, String thumbnailContentType);
+    boolean deleteIfOrphaned(String id);
+
+}
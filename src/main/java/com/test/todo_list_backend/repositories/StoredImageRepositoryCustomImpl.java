@@ -0,0 +1,60 @@
+package com.test.todo_list_backend.repositories;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.util.Map;
+
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.test.todo_list_backend.models.entities.StoredImage;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class StoredImageRepositoryCustomImpl implements StoredImageRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public StoredImage incrementReferences(String id, long delta) {
+        return mongoTemplate.findAndModify(
+            query(where("_id").is(id)),
+            new Update().inc("refCount", delta),
+            FindAndModifyOptions.options().returnNew(true),
+            StoredImage.class);
+    }
+
+    @Override
+    public StoredImage insertOrIncrementReferences(StoredImage image) {
+        Update update = new Update()
+            .setOnInsert("blobId", image.getBlobId())
+            .setOnInsert("contentType", image.getContentType())
+            .setOnInsert("size", image.getSize())
+            .setOnInsert("createdAt", image.getCreatedAt())
+            .inc("refCount", 1);
+        return mongoTemplate.findAndModify(
+            query(where("_id").is(image.getId())),
+            update,
+            FindAndModifyOptions.options().returnNew(true).upsert(true),
+            StoredImage.class);
+    }
+
+    @Override
+    public boolean setThumbnails(String id, String blobId, Map<String, String> thumbnailIds, String thumbnailContentType) {
+        Update update = new Update()
+            .set("thumbnailIds", thumbnailIds)
+            .set("thumbnailContentType", thumbnailContentType);
+        return mongoTemplate.updateFirst(query(where("_id").is(id).and("blobId").is(blobId)), update, StoredImage.class)
+            .getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean deleteIfOrphaned(String id) {
+        return mongoTemplate.remove(query(where("_id").is(id).and("refCount").lte(0)), StoredImage.class)
+            .getDeletedCount() > 0;
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.test.todo_list_backend.repositories;
+
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.test.todo_list_backend.models.entities.Todo;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TodoBulkWrite {
+
+    private final Todo insert;
+    private final String id;
+    private final Update update;
+    // extra filter on the values the caller read, so a write never lands on a todo that changed in between
+    private final Criteria guard;
+
+    public static TodoBulkWrite insert(Todo todo) {
+        return new TodoBulkWrite(todo, null, null, null);
+    }
+
+    public static TodoBulkWrite update(String id, Update update, Criteria guard) {
+        return new TodoBulkWrite(null, id, update, guard);
+    }
+
+    public static TodoBulkWrite delete(String id, Criteria guard) {
+        return new TodoBulkWrite(null, id, null, guard);
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.test.todo_list_backend.repositories;
+
+import java.util.Map;
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TodoBulkWriteResult {
+
+    private final Map<Integer, String> errors;
+    private final Set<Integer> unmatched;
+    // deletes whose todo is gone but may have been removed by a concurrent request instead of this batch
+    private final Set<Integer> uncertain;
+
+    public TodoBulkWriteResult(Map<Integer, String> errors, Set<Integer> unmatched) {
+        this(errors, unmatched, Set.of());
+    }
+
+    public static TodoBulkWriteResult empty() {
+        return new TodoBulkWriteResult(Map.of(), Set.of(), Set.of());
+    }
+
+}
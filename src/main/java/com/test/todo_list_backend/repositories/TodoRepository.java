@@ -1,24 +1,44 @@
 package com.test.todo_list_backend.repositories;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.test.todo_list_backend.models.dtos.TodoCountDTO;
 import com.test.todo_list_backend.models.entities.Todo;
 
 @Repository
-public interface TodoRepository extends MongoRepository<Todo,String> {
+public interface TodoRepository extends MongoRepository<Todo,String>, TodoRepositoryCustom {
 
-    @Query("{  \"user._id\": ObjectId(?0) }")
-    List<Todo> findByUserId(String userId);
+    String LIST_ITEM_FIELDS = "{ title: 1, description: 1, priority: 1, status: 1, imageId: 1, createdAt: 1, expiresAt: 1 }";
 
-    @Query("{  status: 'COMPLETED', \"user._id\": ObjectId(?0) }")
-    Page<Todo> findAllCompletedTodosByUserId(String userId, Pageable pageable);
+    @Aggregation(pipeline = {
+        "{ $match: { userId: ObjectId(?0) } }",
+        "{ $group: { _id: { status: '$status', priority: '$priority', expiryDate: { $dateToString: { date: '$expiresAt', format: '%Y-%m-%d', timezone: ?1 } } }, count: { $sum: 1 } } }",
+        "{ $project: { _id: 0, status: '$_id.status', priority: '$_id.priority', expiryDate: '$_id.expiryDate', count: 1 } }"
+    })
+    List<TodoCountDTO> countTodosByStatusPriorityAndExpiryDate(String userId, String timezone);
 
-    @Query("{  $or: [ { status: 'NOT_STARTED' }, { status: 'IN_PROGRESS' } ], \"user._id\": ObjectId(?0) }")
-    Page<Todo> findAllNotCompletedTodosByUserId(String userId, Pageable pageable);
+    @Query(value = "{  status: 'COMPLETED', userId: ObjectId(?0) }", fields = LIST_ITEM_FIELDS)
+    List<Todo> findAllCompletedTodosByUserId(String userId, Pageable pageable);
+
+    Optional<Todo> findByIdAndUserId(String id, String userId);
+
+    List<Todo> findByIdInAndUserId(Collection<String> ids, String userId);
+
+    @Query(value = "{  status: 'COMPLETED', userId: ObjectId(?0) }", fields = LIST_ITEM_FIELDS)
+    Slice<Todo> findCompletedTodoSliceByUserId(String userId, Pageable pageable);
+
+    @Query(value = "{  $or: [ { status: 'NOT_STARTED' }, { status: 'IN_PROGRESS' } ], userId: ObjectId(?0) }", fields = LIST_ITEM_FIELDS)
+    List<Todo> findAllNotCompletedTodosByUserId(String userId, Pageable pageable);
+
+    @Query(value = "{  $or: [ { status: 'NOT_STARTED' }, { status: 'IN_PROGRESS' } ], userId: ObjectId(?0) }", fields = LIST_ITEM_FIELDS)
+    Slice<Todo> findNotCompletedTodoSliceByUserId(String userId, Pageable pageable);
 }
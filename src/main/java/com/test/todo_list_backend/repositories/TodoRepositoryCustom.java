@@ -0,0 +1,21 @@
+package com.test.todo_list_backend.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.test.todo_list_backend.models.entities.Todo;
+import com.test.todo_list_backend.models.enums.TodoStatus;
+import com.test.todo_list_backend.utils.TodoCursor;
+
+public interface TodoRepositoryCustom {
+
+    List<Todo> findListItemsAfter(String userId, Collection<TodoStatus> statuses, TodoCursor after, int limit);
+    TodoBulkWriteResult bulkWrite(String userId, List<TodoBulkWrite> writes);
+    Stream<Todo> streamAllByUserId(String userId, int batchSize);
+    Page<Todo> searchByUserId(String userId, String text, Pageable pageable);
+
+}
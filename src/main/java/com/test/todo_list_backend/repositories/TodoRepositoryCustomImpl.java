@@ -0,0 +1,185 @@
+package com.test.todo_list_backend.repositories;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.test.todo_list_backend.models.entities.Todo;
+import com.test.todo_list_backend.models.enums.TodoStatus;
+import com.test.todo_list_backend.utils.TodoCursor;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class TodoRepositoryCustomImpl implements TodoRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Todo> findListItemsAfter(String userId, Collection<TodoStatus> statuses, TodoCursor after, int limit) {
+        return mongoTemplate.find(listItemsAfterQuery(userId, statuses, after, limit), Todo.class);
+    }
+
+    static Query listItemsAfterQuery(String userId, Collection<TodoStatus> statuses, TodoCursor after, int limit) {
+        Criteria criteria = where("userId").is(new ObjectId(userId)).and("status").in(statuses);
+        if (after != null) {
+            criteria = criteria.orOperator(
+                where("createdAt").lt(after.getCreatedAt()),
+                where("createdAt").is(after.getCreatedAt()).and("_id").lt(new ObjectId(after.getId())));
+        }
+        Query query = new Query(criteria)
+            .with(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("_id")))
+            .limit(limit);
+        query.fields().include("title", "description", "priority", "status", "imageId", "createdAt", "expiresAt");
+        return query;
+    }
+
+    @Override
+    public Stream<Todo> streamAllByUserId(String userId, int batchSize) {
+        Query query = new Query(where("userId").is(new ObjectId(userId)))
+            .with(Sort.by(Sort.Order.asc("status"), Sort.Order.desc("createdAt"), Sort.Order.desc("_id")))
+            .cursorBatchSize(batchSize);
+        return mongoTemplate.stream(query, Todo.class);
+    }
+
+    @Override
+    public Page<Todo> searchByUserId(String userId, String text, Pageable pageable) {
+        Query query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(text))
+            .sortByScore()
+            .addCriteria(where("userId").is(new ObjectId(userId)))
+            .with(Sort.by(Sort.Order.desc("_id")))
+            .skip(pageable.getOffset())
+            .limit(pageable.getPageSize());
+        query.fields().include("title", "description", "priority", "status", "createdAt", "expiresAt");
+        List<Todo> todos = mongoTemplate.find(query, Todo.class);
+        return PageableExecutionUtils.getPage(todos, pageable,
+            () -> mongoTemplate.count(Query.of(query).skip(0).limit(0), Todo.class));
+    }
+
+    @Override
+    public TodoBulkWriteResult bulkWrite(String userId, List<TodoBulkWrite> writes) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Todo.class);
+        for (TodoBulkWrite write : writes) {
+            if (write.getInsert() != null) {
+                operations.insert(write.getInsert());
+                continue;
+            }
+            Query owned = new Query(where("_id").is(write.getId()).and("userId").is(new ObjectId(userId)));
+            if (write.getGuard() != null) {
+                owned.addCriteria(write.getGuard());
+            }
+            if (write.getUpdate() != null) {
+                operations.updateOne(owned, write.getUpdate());
+            }
+            else {
+                operations.remove(owned);
+            }
+        }
+        Map<Integer, String> errors = new HashMap<>();
+        BulkWriteResult result;
+        try {
+            result = operations.execute();
+        }
+        catch (BulkOperationException e) {
+            e.getErrors().forEach(error -> errors.put(error.getIndex(), error.getMessage()));
+            result = e.getResult();
+        }
+        Set<Integer> unmatched = new HashSet<>();
+        Set<Integer> uncertain = new HashSet<>();
+        List<Integer> updateIndexes = indexesOf(writes, errors, write -> write.getUpdate() != null);
+        List<Integer> deleteIndexes = indexesOf(writes, errors, write -> write.getInsert() == null && write.getUpdate() == null);
+        if (result.getMatchedCount() < updateIndexes.size()) {
+            // a todo that now holds the values this batch set was matched, one that is still there otherwise failed its guard
+            Set<String> appliedIds = this.findAppliedIds(writes, updateIndexes);
+            List<Integer> missed = updateIndexes.stream()
+                .filter(index -> !appliedIds.contains(writes.get(index).getId()))
+                .toList();
+            Set<String> presentIds = missed.isEmpty() ? Set.of() : this.findPresentIds(writes, missed);
+            for (Integer index : missed) {
+                if (presentIds.contains(writes.get(index).getId())) {
+                    errors.put(index, "Todo was modified concurrently");
+                }
+                else {
+                    unmatched.add(index);
+                }
+            }
+        }
+        int missingDeletes = deleteIndexes.size() - result.getDeletedCount();
+        if (missingDeletes > 0) {
+            // a delete that left its todo in place failed its guard, the rest of the shortfall raced with another delete
+            Set<String> presentIds = this.findPresentIds(writes, deleteIndexes);
+            List<Integer> absent = new ArrayList<>();
+            for (Integer index : deleteIndexes) {
+                if (presentIds.contains(writes.get(index).getId())) {
+                    errors.put(index, "Todo was modified concurrently");
+                }
+                else {
+                    absent.add(index);
+                }
+            }
+            int raced = missingDeletes - presentIds.size();
+            if (raced > 0) {
+                (raced == absent.size() ? unmatched : uncertain).addAll(absent);
+            }
+        }
+        return new TodoBulkWriteResult(errors, unmatched, uncertain);
+    }
+
+    private Set<String> findAppliedIds(List<TodoBulkWrite> writes, List<Integer> indexes) {
+        List<Criteria> applied = new ArrayList<>();
+        for (Integer index : indexes) {
+            Criteria criteria = where("_id").is(writes.get(index).getId());
+            Document set = writes.get(index).getUpdate().getUpdateObject().get("$set", Document.class);
+            if (set != null) {
+                set.forEach((field, value) -> criteria.and(field).is(value));
+            }
+            applied.add(criteria);
+        }
+        Query query = new Query(new Criteria().orOperator(applied));
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Todo.class).stream()
+            .map(Todo::getId)
+            .collect(Collectors.toSet());
+    }
+
+    private Set<String> findPresentIds(List<TodoBulkWrite> writes, List<Integer> indexes) {
+        Query present = new Query(where("_id").in(indexes.stream().map(index -> writes.get(index).getId()).toList()));
+        present.fields().include("_id");
+        return mongoTemplate.find(present, Todo.class).stream()
+            .map(Todo::getId)
+            .collect(Collectors.toSet());
+    }
+
+    private static List<Integer> indexesOf(List<TodoBulkWrite> writes, Map<Integer, String> errors, Predicate<TodoBulkWrite> filter) {
+        return IntStream.range(0, writes.size())
+            .filter(index -> !errors.containsKey(index) && filter.test(writes.get(index)))
+            .boxed()
+            .toList();
+    }
+
+}
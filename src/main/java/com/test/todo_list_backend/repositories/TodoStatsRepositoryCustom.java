@@ -0,0 +1,14 @@
+package com.test.todo_list_backend.repositories;
+
+import java.util.Map;
+
+import com.test.todo_list_backend.models.entities.TodoStats;
+
+public interface TodoStatsRepositoryCustom {
+
+    void incrementCounters(String userId, Map<String, Long> deltas);
+    TodoStats insertIfAbsent(String userId);
+    boolean replaceCountersIfVersion(TodoStats stats, long expectedVersion);
+    void clearReconciledAt(String userId);
+
+}
@@ -0,0 +1,61 @@
+package com.test.todo_list_backend.repositories;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.util.Map;
+
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.test.todo_list_backend.models.entities.TodoStats;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class TodoStatsRepositoryCustomImpl implements TodoStatsRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void incrementCounters(String userId, Map<String, Long> deltas) {
+        Update update = new Update();
+        deltas.forEach(update::inc);
+        // an upsert so increments that race the lazy creation of the document are never dropped
+        mongoTemplate.upsert(query(where("_id").is(userId)), update, TodoStats.class);
+    }
+
+    @Override
+    public TodoStats insertIfAbsent(String userId) {
+        // created without reconciledAt, so it only counts increments until the first reconciliation replaces them
+        Update update = new Update()
+            .setOnInsert("statusCounts", Map.of())
+            .setOnInsert("priorityCounts", Map.of())
+            .setOnInsert("openTodosByExpiryDate", Map.of())
+            .setOnInsert("version", 0L);
+        return mongoTemplate.findAndModify(
+            query(where("_id").is(userId)),
+            update,
+            FindAndModifyOptions.options().returnNew(true).upsert(true),
+            TodoStats.class);
+    }
+
+    @Override
+    public boolean replaceCountersIfVersion(TodoStats stats, long expectedVersion) {
+        Update update = new Update()
+            .set("statusCounts", stats.getStatusCounts())
+            .set("priorityCounts", stats.getPriorityCounts())
+            .set("openTodosByExpiryDate", stats.getOpenTodosByExpiryDate())
+            .set("reconciledAt", stats.getReconciledAt())
+            .inc("version", 1);
+        return mongoTemplate.updateFirst(query(where("_id").is(stats.getUserId()).and("version").is(expectedVersion)), update, TodoStats.class)
+            .getModifiedCount() > 0;
+    }
+
+    @Override
+    public void clearReconciledAt(String userId) {
+        mongoTemplate.updateFirst(query(where("_id").is(userId)), new Update().unset("reconciledAt").inc("version", 1), TodoStats.class);
+    }
+
+}
@@ -1,14 +1,22 @@
 package com.test.todo_list_backend.repositories;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.test.todo_list_backend.models.entities.User;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends MongoRepository<User,String> {
+public interface UserRepository extends MongoRepository<User,String>, UserRepositoryCustom {
 
-    Optional<User> findByEmail(String email);
+    @Query(value = "{ 'email': ?0 }", fields = "{ 'email': 1, 'password': 1, 'isActive': 1, 'roles': 1, 'fullName': 1, 'userName': 1 }")
+    Optional<User> findLoginUserByEmail(String email);
+
+    @Override
+    Optional<User> findById(String id);
+
+    @Override
+    <S extends User> S save(S entity);
 
 }
@@ -0,0 +1,14 @@
+package com.test.todo_list_backend.repositories;
+
+import java.util.Optional;
+
+import com.test.todo_list_backend.models.entities.User;
+
+public interface UserRepositoryCustom {
+
+    Optional<User> findByEmail(String email);
+    Optional<User> findById(String id);
+    <S extends User> S save(S user);
+    void evictCachedUser(String id, String email);
+
+}
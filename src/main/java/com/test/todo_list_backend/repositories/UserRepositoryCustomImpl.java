@@ -0,0 +1,82 @@
+package com.test.todo_list_backend.repositories;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.test.todo_list_backend.config.CacheConfig;
+import com.test.todo_list_backend.models.entities.User;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+    private final CacheManager cacheManager;
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return this.cached(CacheConfig.USERS_BY_EMAIL, email, () -> mongoTemplate.findOne(query(where("email").is(email)), User.class));
+    }
+
+    @Override
+    public Optional<User> findById(String id) {
+        return this.cached(CacheConfig.USERS_BY_ID, id, () -> mongoTemplate.findById(id, User.class));
+    }
+
+    @Override
+    public <S extends User> S save(S user) {
+        S saved = mongoTemplate.save(user);
+        this.evictCachedUser(saved.getId(), saved.getEmail());
+        return saved;
+    }
+
+    @Override
+    public void evictCachedUser(String id, String email) {
+        this.evict(id, email);
+        // a read inside the transaction may have cached uncommitted state, so evict again once it is over
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(id, email);
+                }
+            });
+        }
+    }
+
+    // callers mutate and save the users they load, so the cache only ever hands out and keeps copies
+    private Optional<User> cached(String cacheName, String key, Supplier<User> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        User cached = cache == null || key == null ? null : cache.get(key, User.class);
+        if (cached != null) {
+            return Optional.of(cached.copy());
+        }
+        User user = loader.get();
+        if (user != null && cache != null && key != null) {
+            cache.put(key, user.copy());
+        }
+        return Optional.ofNullable(user);
+    }
+
+    private void evict(String id, String email) {
+        Cache usersById = cacheManager.getCache(CacheConfig.USERS_BY_ID);
+        if (usersById != null && id != null) {
+            usersById.evict(id);
+        }
+        Cache usersByEmail = cacheManager.getCache(CacheConfig.USERS_BY_EMAIL);
+        if (usersByEmail != null && email != null) {
+            usersByEmail.evict(email);
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.test.todo_list_backend.security;
+
+import java.security.Principal;
+import java.util.Collection;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AuthenticatedUser implements Principal {
+
+    private final String id;
+    private final String email;
+    private final Collection<GrantedAuthority> authorities;
+
+    @Override
+    public String getName() {
+        return this.email;
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.test.todo_list_backend.security;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+public class AuthenticatedUserConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    private final JwtGrantedAuthoritiesConverter grantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+
+    public AuthenticatedUserConverter() {
+        this.grantedAuthoritiesConverter.setAuthoritiesClaimName("authorities");
+        this.grantedAuthoritiesConverter.setAuthorityPrefix("");
+    }
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        AuthenticatedUser user = new AuthenticatedUser(
+            jwt.getClaimAsString("userId"),
+            jwt.getClaimAsString("username"),
+            grantedAuthoritiesConverter.convert(jwt));
+        return new AuthenticatedUserToken(user, jwt);
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.test.todo_list_backend.security;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+public class AuthenticatedUserToken extends AbstractAuthenticationToken {
+
+    private final AuthenticatedUser principal;
+    private final Jwt jwt;
+
+    public AuthenticatedUserToken(AuthenticatedUser principal, Jwt jwt) {
+        super(principal.getAuthorities());
+        this.principal = principal;
+        this.jwt = jwt;
+        this.setAuthenticated(true);
+    }
+
+    @Override
+    public AuthenticatedUser getPrincipal() {
+        return this.principal;
+    }
+
+    @Override
+    public Jwt getCredentials() {
+        return this.jwt;
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.test.todo_list_backend.security;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.Ed25519Verifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.proc.BadJOSEException;
+import com.nimbusds.jose.proc.BadJWSException;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+// DefaultJWTProcessor cannot turn Ed25519 JWKs into verifiers, so the signature check is done per key here.
+public class JwkSetJwtProcessor extends DefaultJWTProcessor<SecurityContext> {
+
+    private record Verifier(String keyId, JWSAlgorithm algorithm, JWSVerifier verifier) {}
+
+    private final List<Verifier> verifiers = new ArrayList<>();
+
+    public JwkSetJwtProcessor(JwtSigningKeys signingKeys) {
+        for (JWK key : signingKeys.getPublicJwkSet().getKeys()) {
+            verifiers.add(new Verifier(key.getKeyID(), JwtSigningKeys.algorithmOf(key), createVerifier(key)));
+        }
+    }
+
+    @Override
+    public JWTClaimsSet process(SignedJWT signedJwt, SecurityContext context) throws BadJOSEException, JOSEException {
+        String keyId = signedJwt.getHeader().getKeyID();
+        JWSAlgorithm algorithm = signedJwt.getHeader().getAlgorithm();
+        boolean candidateFound = false;
+        for (Verifier verifier : verifiers) {
+            if (!verifier.algorithm().equals(algorithm) || (keyId != null && !keyId.equals(verifier.keyId()))) {
+                continue;
+            }
+            candidateFound = true;
+            if (signedJwt.verify(verifier.verifier())) {
+                try {
+                    return signedJwt.getJWTClaimsSet();
+                }
+                catch (ParseException e) {
+                    throw new BadJWSException("Signed JWT rejected: Invalid claims", e);
+                }
+            }
+        }
+        if (!candidateFound) {
+            throw new BadJOSEException("Signed JWT rejected: Another algorithm expected, or no matching key(s) found");
+        }
+        throw new BadJWSException("Signed JWT rejected: Invalid signature");
+    }
+
+    private static JWSVerifier createVerifier(JWK key) {
+        try {
+            return switch (key) {
+                case RSAKey rsaKey -> new RSASSAVerifier(rsaKey);
+                case ECKey ecKey -> new ECDSAVerifier(ecKey);
+                case OctetKeyPair octetKeyPair -> new Ed25519Verifier(octetKeyPair);
+                default -> throw new IllegalStateException("Unsupported verification key " + key.getKeyID());
+            };
+        }
+        catch (JOSEException e) {
+            throw new IllegalStateException("Unable to create a verifier for key " + key.getKeyID(), e);
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.test.todo_list_backend.security;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class JwtConfig {
+
+    @Value("${jwt.private.key}")
+    private RSAPrivateKey privateKey;
+    @Value("${jwt.public.key}")
+    private RSAPublicKey publicKey;
+    @Value("${jwt.jwk-set}")
+    private String jwkSetLocation;
+    @Value("${jwt.signing.key-id}")
+    private String signingKeyId;
+
+    @Bean
+    public PasswordEncoder passwordEncoder(ThreadPoolTaskExecutor passwordHashingExecutor, MeterRegistry meterRegistry,
+                                           @Value("${password-hashing.retry-after}") Duration retryAfter) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingExecutor, retryAfter, meterRegistry);
+    }
+
+    @Bean
+    public JwtSigningKeys jwtSigningKeys(ResourceLoader resourceLoader) throws IOException, ParseException, JOSEException {
+        if (jwkSetLocation.isBlank()) {
+            RSAKey rsaKey = new RSAKey.Builder(publicKey)
+                .privateKey(privateKey)
+                .keyIDFromThumbprint()
+                .build();
+            return JwtSigningKeys.of(new JWKSet(rsaKey), signingKeyId);
+        }
+        try (InputStream inputStream = resourceLoader.getResource(jwkSetLocation).getInputStream()) {
+            return JwtSigningKeys.of(JWKSet.parse(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)), signingKeyId);
+        }
+    }
+
+    @Bean
+    public JwtEncoder jwtEncoder(JwtSigningKeys jwtSigningKeys) {
+        return new SigningKeyJwtEncoder(jwtSigningKeys);
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(JwtSigningKeys jwtSigningKeys, MeterRegistry meterRegistry,
+                                 @Value("${jwt.decoder.cache.maximum-size}") long cacheMaximumSize) {
+        return new CachingJwtDecoder(verifyingDecoder(jwtSigningKeys), cacheMaximumSize, Clock.systemUTC(), meterRegistry);
+    }
+
+    public static JwtDecoder verifyingDecoder(JwtSigningKeys jwtSigningKeys) {
+        return new NimbusJwtDecoder(new JwkSetJwtProcessor(jwtSigningKeys));
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.test.todo_list_backend.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+
+public class JwtSigningKeys {
+
+    private final JWKSet jwkSet;
+    private final JWK signingKey;
+    private final JWSAlgorithm signingAlgorithm;
+
+    private JwtSigningKeys(JWKSet jwkSet, JWK signingKey) {
+        this.jwkSet = jwkSet;
+        this.signingKey = signingKey;
+        this.signingAlgorithm = algorithmOf(signingKey);
+    }
+
+    public static JwtSigningKeys of(JWKSet jwkSet, String signingKeyId) {
+        if (jwkSet.getKeys().isEmpty()) {
+            throw new IllegalStateException("The JWK set has no keys");
+        }
+        for (JWK key : jwkSet.getKeys()) {
+            if (key.getKeyID() == null) {
+                throw new IllegalStateException("Every key in the JWK set must have a kid");
+            }
+            algorithmOf(key);
+        }
+        JWK signingKey;
+        if (signingKeyId == null || signingKeyId.isBlank()) {
+            if (jwkSet.getKeys().size() > 1) {
+                throw new IllegalStateException("The JWK set has several keys, so the signing key id must be configured");
+            }
+            signingKey = jwkSet.getKeys().get(0);
+        }
+        else {
+            signingKey = jwkSet.getKeyByKeyId(signingKeyId);
+            if (signingKey == null) {
+                throw new IllegalStateException("Signing key " + signingKeyId + " is not in the JWK set");
+            }
+        }
+        if (!signingKey.isPrivate()) {
+            throw new IllegalStateException("Signing key " + signingKey.getKeyID() + " has no private part");
+        }
+        return new JwtSigningKeys(jwkSet, signingKey);
+    }
+
+    public JWKSet getJwkSet() {
+        return jwkSet;
+    }
+
+    public JWKSet getPublicJwkSet() {
+        return jwkSet.toPublicJWKSet();
+    }
+
+    public JWK getSigningKey() {
+        return signingKey;
+    }
+
+    public JWSAlgorithm getSigningAlgorithm() {
+        return signingAlgorithm;
+    }
+
+    static JWSAlgorithm algorithmOf(JWK key) {
+        if (key.getAlgorithm() != null) {
+            return JWSAlgorithm.parse(key.getAlgorithm().getName());
+        }
+        if (key instanceof ECKey ecKey && Curve.P_256.equals(ecKey.getCurve())) {
+            return JWSAlgorithm.ES256;
+        }
+        if (key instanceof OctetKeyPair okp && Curve.Ed25519.equals(okp.getCurve())) {
+            return JWSAlgorithm.EdDSA;
+        }
+        if (key.getKeyType().getValue().equals("RSA")) {
+            return JWSAlgorithm.RS256;
+        }
+        throw new IllegalStateException("Unsupported signing key " + key.getKeyID() + " of type " + key.getKeyType());
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.test.todo_list_backend.security;
+
+import java.net.URL;
+import java.time.Instant;
+import java.util.Date;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtEncodingException;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.factories.DefaultJWSSignerFactory;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+// NimbusJwtEncoder only selects RSA, EC and HMAC keys, so tokens are signed with Nimbus directly to support EdDSA.
+public class SigningKeyJwtEncoder implements JwtEncoder {
+
+    private final JWSHeader header;
+    private final JWSSigner signer;
+
+    public SigningKeyJwtEncoder(JwtSigningKeys signingKeys) {
+        this.header = new JWSHeader.Builder(signingKeys.getSigningAlgorithm())
+            .type(JOSEObjectType.JWT)
+            .keyID(signingKeys.getSigningKey().getKeyID())
+            .build();
+        try {
+            this.signer = new DefaultJWSSignerFactory().createJWSSigner(signingKeys.getSigningKey(), signingKeys.getSigningAlgorithm());
+        }
+        catch (JOSEException e) {
+            throw new IllegalStateException("Unable to create a signer for key " + signingKeys.getSigningKey().getKeyID(), e);
+        }
+    }
+
+    @Override
+    public Jwt encode(JwtEncoderParameters parameters) throws JwtEncodingException {
+        JWTClaimsSet.Builder claims = new JWTClaimsSet.Builder();
+        parameters.getClaims().getClaims().forEach((name, value) -> claims.claim(name, switch (value) {
+            case Instant instant -> Date.from(instant);
+            case URL url -> url.toExternalForm();
+            default -> value;
+        }));
+        SignedJWT signedJwt = new SignedJWT(header, claims.build());
+        try {
+            signedJwt.sign(signer);
+        }
+        catch (JOSEException e) {
+            throw new JwtEncodingException("An error occurred while attempting to sign the Jwt", e);
+        }
+        return Jwt.withTokenValue(signedJwt.serialize())
+            .headers(headers -> headers.putAll(header.toJSONObject()))
+            .claims(jwtClaims -> jwtClaims.putAll(parameters.getClaims().getClaims()))
+            .build();
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.test.todo_list_backend.services;
+
+import java.io.InputStream;
+
+import org.springframework.core.io.Resource;
+
+public interface BlobStorageService {
+
+    String store(InputStream content, String filename, String contentType);
+    Resource load(String blobId);
+    void delete(String blobId);
+
+}
@@ -0,0 +1,8 @@
+package com.test.todo_list_backend.services;
+
+public interface EmailOutboxService {
+
+    void enqueueConfirmationEmail(String emailTo, String fullName, String code, String subject);
+    void dispatchPending();
+
+}
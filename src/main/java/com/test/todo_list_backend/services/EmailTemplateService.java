@@ -0,0 +1,10 @@
+package com.test.todo_list_backend.services;
+
+import java.util.Map;
+
+public interface EmailTemplateService {
+
+    String render(String template, Map<String, String> variables);
+    long reload(String template);
+
+}
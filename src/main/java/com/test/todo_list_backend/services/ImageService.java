@@ -0,0 +1,14 @@
+package com.test.todo_list_backend.services;
+
+import org.springframework.core.io.InputStreamSource;
+
+import com.test.todo_list_backend.models.dtos.TodoImageResponseDTO;
+
+public interface ImageService {
+
+    String store(InputStreamSource source, String filename, String contentType);
+    void release(String imageId);
+    TodoImageResponseDTO load(String imageId, Integer size);
+    void collectOrphans();
+
+}
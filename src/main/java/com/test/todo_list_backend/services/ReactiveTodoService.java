@@ -0,0 +1,26 @@
+package com.test.todo_list_backend.services;
+
+import org.springframework.http.codec.multipart.FilePart;
+
+import com.test.todo_list_backend.models.dtos.TodoImageResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoListItemResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoRequestDTO;
+import com.test.todo_list_backend.models.dtos.TodoResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoUpdateRequestDTO;
+import com.test.todo_list_backend.models.dtos.TodosSummaryResponseDTO;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTodoService {
+
+    Flux<TodoListItemResponseDTO> findNotCompletedTodos(String userId, int limit);
+    Flux<TodoListItemResponseDTO> findCompletedTodos(String userId, int limit);
+    Mono<TodoResponseDTO> findTodoById(String userId, String id);
+    Mono<TodoImageResponseDTO> findTodoImage(String userId, String id, Integer size);
+    Mono<Void> createTodo(String userId, TodoRequestDTO request, FilePart image);
+    Mono<Void> updateTodo(String userId, String id, TodoUpdateRequestDTO request, FilePart image);
+    Mono<Void> deleteTodo(String userId, String id);
+    Mono<TodosSummaryResponseDTO> getTodosSummary(String userId);
+
+}
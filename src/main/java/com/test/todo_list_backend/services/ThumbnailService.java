@@ -0,0 +1,7 @@
+package com.test.todo_list_backend.services;
+
+public interface ThumbnailService {
+
+    void generateThumbnails(String imageId);
+
+}
@@ -4,20 +4,37 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.test.todo_list_backend.models.dtos.CursorPageResponseDTO;
+import com.test.todo_list_backend.models.dtos.SliceResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoBatchRequestDTO;
+import com.test.todo_list_backend.models.dtos.TodoBatchResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoImageResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoListItemResponseDTO;
 import com.test.todo_list_backend.models.dtos.TodoResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoSearchResultDTO;
 import com.test.todo_list_backend.models.dtos.TodoUpdateRequestDTO;
 import com.test.todo_list_backend.models.dtos.TodosSummaryResponseDTO;
 import com.test.todo_list_backend.models.dtos.TodoRequestDTO;
 
 public interface TodoService {
 
-    Page<TodoResponseDTO> findAllNotCompletedTodosFromConnectedUser(Pageable pageable);
-    Page<TodoResponseDTO> findAllCompletedTodosFromConnectedUser(Pageable pageable);
+    Page<TodoListItemResponseDTO> findAllNotCompletedTodosFromConnectedUser(Pageable pageable);
+    Page<TodoListItemResponseDTO> findAllCompletedTodosFromConnectedUser(Pageable pageable);
+    SliceResponseDTO<TodoListItemResponseDTO> findNotCompletedTodoSliceFromConnectedUser(Pageable pageable);
+    SliceResponseDTO<TodoListItemResponseDTO> findCompletedTodoSliceFromConnectedUser(Pageable pageable);
+    CursorPageResponseDTO<TodoListItemResponseDTO> findNotCompletedTodosFromConnectedUserAfter(String after, int limit);
+    CursorPageResponseDTO<TodoListItemResponseDTO> findCompletedTodosFromConnectedUserAfter(String after, int limit);
+    Page<TodoSearchResultDTO> searchTodosFromConnectedUser(String query, Pageable pageable);
     TodoResponseDTO findTodoById(String id);
     void createTodo(TodoRequestDTO request, MultipartFile image);
     void updateTodo(String id, TodoUpdateRequestDTO request, MultipartFile image);
     void deleteTodo(String id);
+    TodoBatchResponseDTO executeBatch(TodoBatchRequestDTO request);
+    TodoImageResponseDTO findTodoImage(String id, Integer size);
 
+    String getTodosVersionTagFromConnectedUser();
+    String getTodosSummaryVersionTagFromConnectedUser();
     TodosSummaryResponseDTO getTodosSummaryFromConnectedUser();
+    TodosSummaryResponseDTO reconcileTodosSummaryFromConnectedUser();
 
 }
@@ -0,0 +1,18 @@
+package com.test.todo_list_backend.services;
+
+import java.util.List;
+
+import com.test.todo_list_backend.models.entities.Todo;
+import com.test.todo_list_backend.models.entities.TodoStats;
+
+public interface TodoStatsService {
+
+    TodoStats getStats(String userId);
+    TodoStats reconcile(String userId);
+    void requestReconcile(String userId);
+    void recordCreated(Todo todo);
+    void recordUpdated(Todo previous, Todo current);
+    void recordDeleted(Todo todo);
+    void recordChanges(String userId, List<Todo> removed, List<Todo> added);
+
+}
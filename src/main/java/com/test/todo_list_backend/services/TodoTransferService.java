@@ -0,0 +1,13 @@
+package com.test.todo_list_backend.services;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.test.todo_list_backend.models.dtos.TodoImportResponseDTO;
+
+public interface TodoTransferService {
+
+    void exportTodosFromConnectedUser(OutputStream outputStream);
+    TodoImportResponseDTO importTodosFromConnectedUser(InputStream inputStream);
+
+}
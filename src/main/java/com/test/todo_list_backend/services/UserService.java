@@ -21,6 +21,7 @@ public interface UserService {
     void verifyToken(String token);
 
     User getConnectedUser();
+    String getConnectedUserId();
     VerifyExistingEmailResponseDTO verifyExistingEmail(String email);
 
     void updateUserInfos(UpdateUserInfosRequestDTO request);
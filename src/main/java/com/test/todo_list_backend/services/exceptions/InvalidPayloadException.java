@@ -0,0 +1,9 @@
+package com.test.todo_list_backend.services.exceptions;
+
+public class InvalidPayloadException extends RuntimeException {
+
+    public InvalidPayloadException(String message) {
+        super(message);
+    }
+
+}
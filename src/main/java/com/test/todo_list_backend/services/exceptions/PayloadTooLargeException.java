@@ -0,0 +1,9 @@
+package com.test.todo_list_backend.services.exceptions;
+
+public class PayloadTooLargeException extends RuntimeException {
+
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.test.todo_list_backend.services.exceptions;
+
+import com.test.todo_list_backend.models.dtos.TodoImportResponseDTO;
+
+public class TodoImportAbortedException extends RuntimeException {
+
+    private final TodoImportResponseDTO report;
+
+    public TodoImportAbortedException(TodoImportResponseDTO report, RuntimeException cause) {
+        super(cause.getMessage(), cause);
+        this.report = report;
+    }
+
+    public TodoImportResponseDTO getReport() {
+        return report;
+    }
+
+}
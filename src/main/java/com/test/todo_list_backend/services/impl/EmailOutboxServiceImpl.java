@@ -0,0 +1,115 @@
+package com.test.todo_list_backend.services.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.sendgrid.helpers.mail.Mail;
+import com.test.todo_list_backend.models.entities.EmailOutboxMessage;
+import com.test.todo_list_backend.models.enums.EmailOutboxStatus;
+import com.test.todo_list_backend.repositories.EmailOutboxRepository;
+import com.test.todo_list_backend.services.EmailOutboxService;
+import com.test.todo_list_backend.services.EmailService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxServiceImpl implements EmailOutboxService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmailOutboxServiceImpl.class);
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final Executor emailExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${email.outbox.batch-size}")
+    private int batchSize;
+
+    @Value("${email.outbox.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${email.outbox.initial-backoff}")
+    private Duration initialBackoff;
+
+    @Value("${email.outbox.max-backoff}")
+    private Duration maxBackoff;
+
+    @Value("${email.outbox.lease}")
+    private Duration lease;
+
+    @Override
+    public void enqueueConfirmationEmail(String emailTo, String fullName, String code, String subject) {
+        LocalDateTime now = LocalDateTime.now();
+        emailOutboxRepository.save(EmailOutboxMessage.builder()
+            .emailTo(emailTo)
+            .fullName(fullName)
+            .code(code)
+            .subject(subject)
+            .status(EmailOutboxStatus.PENDING)
+            .attempts(0)
+            .nextAttemptAt(now)
+            .createdAt(now)
+            .build());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval}", initialDelayString = "${email.outbox.poll-interval}")
+    public void dispatchPending() {
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>();
+        for (int i = 0; i < batchSize; i++) {
+            LocalDateTime now = LocalDateTime.now();
+            EmailOutboxMessage message = emailOutboxRepository.claimNext(now, now.plus(lease));
+            if (message == null) {
+                break;
+            }
+            deliveries.add(CompletableFuture.runAsync(() -> this.deliver(message), emailExecutor));
+        }
+        CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void deliver(EmailOutboxMessage message) {
+        try {
+            Mail mail = emailService.createEmailTemplate(message.getEmailTo(), message.getFullName(), message.getCode(), message.getSubject());
+            emailService.sendEmail(mail);
+            message.setStatus(EmailOutboxStatus.SENT);
+            message.setSentAt(LocalDateTime.now());
+            message.setCode(null);
+            message.setLastError(null);
+            meterRegistry.counter("email.outbox.deliveries", "outcome", "sent").increment();
+        }
+        catch (RuntimeException e) {
+            message.setLastError(e.getMessage());
+            if (message.getAttempts() >= maxAttempts) {
+                LOGGER.error("Giving up on email {} to {} after {} attempts", message.getId(), message.getEmailTo(), message.getAttempts(), e);
+                message.setStatus(EmailOutboxStatus.DEAD);
+                message.setCode(null);
+                meterRegistry.counter("email.outbox.deliveries", "outcome", "dead").increment();
+            }
+            else {
+                LOGGER.warn("Email {} to {} failed on attempt {}: {}", message.getId(), message.getEmailTo(), message.getAttempts(), e.getMessage());
+                message.setStatus(EmailOutboxStatus.PENDING);
+                message.setNextAttemptAt(LocalDateTime.now().plus(this.backoff(message.getAttempts())));
+                meterRegistry.counter("email.outbox.deliveries", "outcome", "retried").increment();
+            }
+        }
+        emailOutboxRepository.save(message);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+}
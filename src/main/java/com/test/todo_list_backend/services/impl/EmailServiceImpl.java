@@ -5,8 +5,6 @@ import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import com.sendgrid.Method;
 import com.sendgrid.Request;
@@ -16,6 +14,7 @@ import com.sendgrid.helpers.mail.Mail;
 import com.sendgrid.helpers.mail.objects.Content;
 import com.sendgrid.helpers.mail.objects.Email;
 import com.test.todo_list_backend.services.EmailService;
+import com.test.todo_list_backend.services.EmailTemplateService;
 import com.test.todo_list_backend.services.exceptions.EmailException;
 
 @Service
@@ -24,7 +23,7 @@ public class EmailServiceImpl implements EmailService {
     @Autowired
     private SendGrid sendGrid;
     @Autowired
-    private SpringTemplateEngine springTemplateEngine;
+    private EmailTemplateService emailTemplateService;
 
     private String emailFrom = "ahnertfernando499@gmail.com";
 
@@ -47,17 +46,10 @@ public class EmailServiceImpl implements EmailService {
 
     @Override
     public Mail createEmailTemplate(String emailTo, String fullName, String code, String subject) {
-        Map<String, Object> variables = Map.of(
+        String template = emailTemplateService.render("email_confirmation", Map.of(
             "username", fullName,
             "code", code
-        );
-        Context context = new Context();
-        context.setVariables(variables);
-
-        String template = springTemplateEngine.process(
-            "email_confirmation",
-            context
-        );
+        ));
 
         Email from = new Email(emailFrom, "Todo List App");
         Email to = new Email(emailTo);
@@ -0,0 +1,77 @@
+package com.test.todo_list_backend.services.impl;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import com.test.todo_list_backend.services.EmailTemplateService;
+import com.test.todo_list_backend.utils.CompiledEmailTemplate;
+
+@Service
+public class EmailTemplateServiceImpl implements EmailTemplateService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmailTemplateServiceImpl.class);
+
+    private static final Map<String, List<String>> TEMPLATE_VARIABLES = Map.of(
+        "email_confirmation", List.of("username", "code")
+    );
+
+    private final SpringTemplateEngine springTemplateEngine;
+    private final Map<String, CompiledEmailTemplate> compiledTemplates = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    public EmailTemplateServiceImpl(SpringTemplateEngine springTemplateEngine) {
+        this.springTemplateEngine = springTemplateEngine;
+        TEMPLATE_VARIABLES.keySet().forEach(this::reload);
+    }
+
+    @Override
+    public String render(String template, Map<String, String> variables) {
+        CompiledEmailTemplate compiled = compiledTemplates.get(template);
+        if (compiled != null) {
+            return compiled.render(variables);
+        }
+        return this.process(template, variables);
+    }
+
+    @Override
+    public long reload(String template) {
+        long version = versions.incrementAndGet();
+        springTemplateEngine.clearTemplateCacheFor(template);
+        List<String> variables = TEMPLATE_VARIABLES.get(template);
+        if (variables == null) {
+            compiledTemplates.remove(template);
+            return version;
+        }
+        Map<String, String> markers = new LinkedHashMap<>();
+        Map<String, String> samples = new LinkedHashMap<>();
+        for (String variable : variables) {
+            markers.put(variable, "%%" + version + ":" + variable + "%%");
+            samples.put(variable, "<" + variable + " & '" + version + "'>");
+        }
+        CompiledEmailTemplate compiled = CompiledEmailTemplate.compile(template, version, this.process(template, markers), markers);
+        if (!compiled.render(samples).equals(this.process(template, samples))) {
+            LOGGER.warn("Template {} does not render variables as plain text, keeping it on the Thymeleaf path", template);
+            compiledTemplates.remove(template);
+            return version;
+        }
+        compiledTemplates.put(template, compiled);
+        LOGGER.info("Compiled email template {} at version {}", template, version);
+        return version;
+    }
+
+    private String process(String template, Map<String, String> variables) {
+        Context context = new Context();
+        context.setVariables(Map.copyOf(variables));
+        return springTemplateEngine.process(template, context);
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.test.todo_list_backend.services.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import com.test.todo_list_backend.services.BlobStorageService;
+import com.test.todo_list_backend.services.exceptions.ResourceNotFoundException;
+
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "filesystem")
+public class FileSystemBlobStorageService implements BlobStorageService {
+
+    private final Path rootDirectory;
+
+    public FileSystemBlobStorageService(@Value("${storage.filesystem.directory}") String rootDirectory) {
+        this.rootDirectory = Paths.get(rootDirectory).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String store(InputStream content, String filename, String contentType) {
+        String blobId = UUID.randomUUID().toString();
+        try {
+            Files.createDirectories(rootDirectory);
+            Files.copy(content, resolve(blobId));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Error while storing blob " + blobId, e);
+        }
+        return blobId;
+    }
+
+    @Override
+    public Resource load(String blobId) {
+        Path path = resolve(blobId);
+        if (!Files.isRegularFile(path)) {
+            throw new ResourceNotFoundException("Image", blobId);
+        }
+        return new FileSystemResource(path);
+    }
+
+    @Override
+    public void delete(String blobId) {
+        try {
+            Files.deleteIfExists(resolve(blobId));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Error while deleting blob " + blobId, e);
+        }
+    }
+
+    private Path resolve(String blobId) {
+        Path path = rootDirectory.resolve(blobId).normalize();
+        if (!path.getParent().equals(rootDirectory)) {
+            throw new ResourceNotFoundException("Image", blobId);
+        }
+        return path;
+    }
+
+}
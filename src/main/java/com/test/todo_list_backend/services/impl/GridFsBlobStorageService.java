@@ -0,0 +1,53 @@
+package com.test.todo_list_backend.services.impl;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.io.InputStream;
+
+import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+import org.springframework.stereotype.Service;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.test.todo_list_backend.services.BlobStorageService;
+import com.test.todo_list_backend.services.exceptions.ResourceNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "gridfs", matchIfMissing = true)
+public class GridFsBlobStorageService implements BlobStorageService {
+
+    private final GridFsTemplate gridFsTemplate;
+
+    @Override
+    public String store(InputStream content, String filename, String contentType) {
+        return gridFsTemplate.store(content, filename, contentType).toHexString();
+    }
+
+    @Override
+    public Resource load(String blobId) {
+        GridFSFile file = gridFsTemplate.findOne(query(where("_id").is(toObjectId(blobId))));
+        if (file == null) {
+            throw new ResourceNotFoundException("Image", blobId);
+        }
+        return gridFsTemplate.getResource(file);
+    }
+
+    @Override
+    public void delete(String blobId) {
+        gridFsTemplate.delete(query(where("_id").is(toObjectId(blobId))));
+    }
+
+    private ObjectId toObjectId(String blobId) {
+        if (!ObjectId.isValid(blobId)) {
+            throw new ResourceNotFoundException("Image", blobId);
+        }
+        return new ObjectId(blobId);
+    }
+
+}
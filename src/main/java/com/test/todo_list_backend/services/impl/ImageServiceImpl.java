@@ -0,0 +1,161 @@
+package com.test.todo_list_backend.services.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.test.todo_list_backend.models.dtos.TodoImageResponseDTO;
+import com.test.todo_list_backend.models.entities.StoredImage;
+import com.test.todo_list_backend.models.enums.ThumbnailSize;
+import com.test.todo_list_backend.repositories.StoredImageRepository;
+import com.test.todo_list_backend.services.BlobStorageService;
+import com.test.todo_list_backend.services.ImageService;
+import com.test.todo_list_backend.services.ThumbnailService;
+import com.test.todo_list_backend.services.exceptions.DefaultValidationError;
+import com.test.todo_list_backend.services.exceptions.ResourceNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ImageServiceImpl implements ImageService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImageServiceImpl.class);
+
+    private final StoredImageRepository storedImageRepository;
+    private final BlobStorageService blobStorageService;
+    private final ThumbnailService thumbnailService;
+
+    @Value("${images.gc.batch-size}")
+    private int gcBatchSize;
+
+    @Override
+    public String store(InputStreamSource source, String filename, String contentType) {
+        MessageDigest digest = this.sha256();
+        digest.update(String.valueOf(contentType).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        long size = 0;
+        try (InputStream content = source.getInputStream()) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+                size += read;
+            }
+        }
+        catch (IOException e) {
+            throw new DefaultValidationError("Error while reading image");
+        }
+        String imageId = HexFormat.of().formatHex(digest.digest());
+        if (storedImageRepository.incrementReferences(imageId, 1) != null) {
+            return imageId;
+        }
+
+        String blobId;
+        try (InputStream content = source.getInputStream()) {
+            blobId = blobStorageService.store(content, filename, contentType);
+        }
+        catch (IOException e) {
+            throw new DefaultValidationError("Error while reading image");
+        }
+        StoredImage image = storedImageRepository.insertOrIncrementReferences(StoredImage.builder()
+            .id(imageId)
+            .blobId(blobId)
+            .contentType(contentType)
+            .size(size)
+            .createdAt(LocalDateTime.now())
+            .build());
+        if (!blobId.equals(image.getBlobId())) {
+            blobStorageService.delete(blobId);
+            return imageId;
+        }
+        this.generateThumbnailsAfterCommit(imageId);
+        return imageId;
+    }
+
+    private void generateThumbnailsAfterCommit(String imageId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            thumbnailService.generateThumbnails(imageId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                thumbnailService.generateThumbnails(imageId);
+            }
+        });
+    }
+
+    @Override
+    public void release(String imageId) {
+        if (storedImageRepository.incrementReferences(imageId, -1) == null) {
+            LOGGER.warn("Released image {} that is not stored", imageId);
+        }
+    }
+
+    @Override
+    public TodoImageResponseDTO load(String imageId, Integer size) {
+        StoredImage image = storedImageRepository.findById(imageId)
+            .orElseThrow(() -> new ResourceNotFoundException("Image", imageId));
+        if (size != null) {
+            try {
+                ThumbnailSize.fromValue(size);
+            }
+            catch (IllegalArgumentException e) {
+                throw new DefaultValidationError(e.getMessage());
+            }
+            String thumbnailId = image.getThumbnailIds() == null ? null : image.getThumbnailIds().get(String.valueOf(size));
+            if (thumbnailId != null) {
+                return new TodoImageResponseDTO(imageId + "-" + size, image.getThumbnailContentType(), blobStorageService.load(thumbnailId));
+            }
+        }
+        return new TodoImageResponseDTO(imageId, image.getContentType(), blobStorageService.load(image.getBlobId()));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${images.gc.fixed-delay}", initialDelayString = "${images.gc.fixed-delay}")
+    public void collectOrphans() {
+        int collected = 0;
+        List<StoredImage> orphans;
+        do {
+            orphans = storedImageRepository.findByRefCountLessThanEqual(0, PageRequest.of(0, gcBatchSize));
+            for (StoredImage orphan : orphans) {
+                if (storedImageRepository.deleteIfOrphaned(orphan.getId())) {
+                    blobStorageService.delete(orphan.getBlobId());
+                    if (orphan.getThumbnailIds() != null) {
+                        orphan.getThumbnailIds().values().forEach(blobStorageService::delete);
+                    }
+                    collected++;
+                }
+            }
+        } while (orphans.size() == gcBatchSize);
+        if (collected > 0) {
+            LOGGER.info("Collected {} orphaned images", collected);
+        }
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+package com.test.todo_list_backend.services.impl;
+
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.stereotype.Service;
+
+import com.test.todo_list_backend.mappers.TodoMapper;
+import com.test.todo_list_backend.models.dtos.TodoImageResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoListItemResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoRequestDTO;
+import com.test.todo_list_backend.models.dtos.TodoResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoUpdateRequestDTO;
+import com.test.todo_list_backend.models.dtos.TodosSummaryResponseDTO;
+import com.test.todo_list_backend.models.entities.Todo;
+import com.test.todo_list_backend.models.enums.TodoStatus;
+import com.test.todo_list_backend.repositories.ReactiveTodoRepository;
+import com.test.todo_list_backend.services.ImageService;
+import com.test.todo_list_backend.services.ReactiveTodoService;
+import com.test.todo_list_backend.services.TodoStatsService;
+import com.test.todo_list_backend.services.exceptions.DefaultValidationError;
+import com.test.todo_list_backend.services.exceptions.ResourceNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveTodoServiceImpl implements ReactiveTodoService {
+
+    private static final int MAX_STREAM_SIZE = 1000;
+
+    private final ReactiveTodoRepository reactiveTodoRepository;
+    private final ImageService imageService;
+    private final TodoStatsService todoStatsService;
+
+    @Override
+    public Flux<TodoListItemResponseDTO> findNotCompletedTodos(String userId, int limit) {
+        return this.findTodos(userId, List.of(TodoStatus.NOT_STARTED, TodoStatus.IN_PROGRESS), limit);
+    }
+
+    @Override
+    public Flux<TodoListItemResponseDTO> findCompletedTodos(String userId, int limit) {
+        return this.findTodos(userId, List.of(TodoStatus.COMPLETED), limit);
+    }
+
+    @Override
+    public Mono<TodoResponseDTO> findTodoById(String userId, String id) {
+        return this.findOwnedTodo(userId, id)
+            .map(TodoMapper::convertEntityToResponseDTO);
+    }
+
+    @Override
+    public Mono<TodoImageResponseDTO> findTodoImage(String userId, String id, Integer size) {
+        return this.findOwnedTodo(userId, id)
+            .flatMap(todo -> {
+                if (todo.getImageId() == null) {
+                    return Mono.error(new ResourceNotFoundException("Image of Todo", id));
+                }
+                return blocking(() -> imageService.load(todo.getImageId(), size));
+            });
+    }
+
+    @Override
+    public Mono<Void> createTodo(String userId, TodoRequestDTO request, FilePart image) {
+        if (image == null) {
+            return Mono.error(new DefaultValidationError("Image is required"));
+        }
+        Todo todo = TodoMapper.convertRequestDTOToEntity(request, userId);
+        return this.storeImage(image)
+            .flatMap(imageId -> {
+                todo.setImageId(imageId);
+                return reactiveTodoRepository.save(todo);
+            })
+            .flatMap(saved -> blocking(() -> {
+                todoStatsService.recordCreated(saved);
+                return saved;
+            }))
+            .then();
+    }
+
+    @Override
+    public Mono<Void> updateTodo(String userId, String id, TodoUpdateRequestDTO request, FilePart image) {
+        return this.findOwnedTodo(userId, id)
+            .flatMap(todo -> {
+                Todo previous = Todo.builder()
+                    .userId(todo.getUserId())
+                    .status(todo.getStatus())
+                    .priority(todo.getPriority())
+                    .expiresAt(todo.getExpiresAt())
+                    .build();
+                String previousImageId = todo.getImageId();
+                TodoMapper.updateTodoEntity(todo, request);
+                Mono<Todo> withImage = image == null
+                    ? Mono.just(todo)
+                    : this.storeImage(image).map(imageId -> {
+                        todo.setImageId(imageId);
+                        return todo;
+                    });
+                return withImage
+                    .flatMap(reactiveTodoRepository::save)
+                    .flatMap(saved -> blocking(() -> {
+                        todoStatsService.recordUpdated(previous, saved);
+                        if (image != null && previousImageId != null) {
+                            imageService.release(previousImageId);
+                        }
+                        return saved;
+                    }));
+            })
+            .then();
+    }
+
+    @Override
+    public Mono<Void> deleteTodo(String userId, String id) {
+        return this.findOwnedTodo(userId, id)
+            .flatMap(todo -> reactiveTodoRepository.delete(todo)
+                .then(blocking(() -> {
+                    todoStatsService.recordDeleted(todo);
+                    if (todo.getImageId() != null) {
+                        imageService.release(todo.getImageId());
+                    }
+                    return todo;
+                })))
+            .then();
+    }
+
+    @Override
+    public Mono<TodosSummaryResponseDTO> getTodosSummary(String userId) {
+        return blocking(() -> TodoMapper.convertStatsToSummary(todoStatsService.getStats(userId)));
+    }
+
+    private Flux<TodoListItemResponseDTO> findTodos(String userId, List<TodoStatus> statuses, int limit) {
+        if (limit < 1 || limit > MAX_STREAM_SIZE) {
+            return Flux.error(new DefaultValidationError("Limit must be between 1 and " + MAX_STREAM_SIZE));
+        }
+        return reactiveTodoRepository.findListItemsAfter(userId, statuses, null, limit)
+            .map(TodoMapper::convertEntityToListItemResponseDTO);
+    }
+
+    private Mono<Todo> findOwnedTodo(String userId, String id) {
+        return reactiveTodoRepository.findByIdAndUserId(id, userId)
+            .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Todo", id)));
+    }
+
+    private Mono<String> storeImage(FilePart image) {
+        MediaType contentType = image.headers().getContentType();
+        if (contentType == null || !"image".equals(contentType.getType())) {
+            return Mono.error(new DefaultValidationError("Image must have an image/* content type"));
+        }
+        return Mono.usingWhen(
+            blocking(() -> Files.createTempFile("todo-image-", ".upload")),
+            path -> image.transferTo(path)
+                .then(blocking(() -> imageService.store(new FileSystemResource(path), image.filename(), contentType.toString()))),
+            path -> blocking(() -> Files.deleteIfExists(path)));
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(Schedulers.boundedElastic());
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.test.todo_list_backend.services.impl;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import com.test.todo_list_backend.models.enums.ThumbnailSize;
+import com.test.todo_list_backend.models.entities.StoredImage;
+import com.test.todo_list_backend.repositories.StoredImageRepository;
+import com.test.todo_list_backend.services.BlobStorageService;
+import com.test.todo_list_backend.services.ThumbnailService;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ThumbnailServiceImpl implements ThumbnailService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThumbnailServiceImpl.class);
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+
+    private final BlobStorageService blobStorageService;
+    private final StoredImageRepository storedImageRepository;
+
+    @Override
+    @Async("thumbnailExecutor")
+    public void generateThumbnails(String imageId) {
+        StoredImage image = storedImageRepository.findById(imageId).orElse(null);
+        if (image == null) {
+            return;
+        }
+        BufferedImage original;
+        try {
+            original = this.readImage(image.getBlobId());
+        }
+        catch (IOException e) {
+            LOGGER.warn("Could not read image {}: {}", imageId, e.getMessage());
+            return;
+        }
+        if (original == null) {
+            LOGGER.info("Image {} has no ImageIO reader, serving the original only", imageId);
+            return;
+        }
+        boolean hasAlpha = original.getColorModel().hasAlpha();
+        String format = hasAlpha ? "png" : "jpg";
+        String contentType = hasAlpha ? "image/png" : "image/jpeg";
+
+        Map<String, String> thumbnailIds = new HashMap<>();
+        for (ThumbnailSize size : ThumbnailSize.values()) {
+            if (Math.max(original.getWidth(), original.getHeight()) <= size.getSize()) {
+                continue;
+            }
+            byte[] thumbnail = this.encode(this.resize(original, size.getSize(), hasAlpha), format);
+            String filename = imageId + "-" + size.getSize() + "." + format;
+            thumbnailIds.put(String.valueOf(size.getSize()), blobStorageService.store(new ByteArrayInputStream(thumbnail), filename, contentType));
+        }
+        if (thumbnailIds.isEmpty()) {
+            return;
+        }
+        if (!storedImageRepository.setThumbnails(imageId, image.getBlobId(), thumbnailIds, contentType)) {
+            thumbnailIds.values().forEach(blobStorageService::delete);
+        }
+    }
+
+    private BufferedImage readImage(String blobId) throws IOException {
+        try (InputStream content = blobStorageService.load(blobId).getInputStream();
+             ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_SOURCE_PIXELS) {
+                    throw new IOException("Image exceeds " + MAX_SOURCE_PIXELS + " pixels");
+                }
+                return reader.read(0);
+            }
+            finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage resize(BufferedImage source, int maxDimension, boolean hasAlpha) {
+        double scale = (double) maxDimension / Math.max(source.getWidth(), source.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage step = new BufferedImage(width, height, hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = step.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(current, 0, 0, width, height, null);
+            graphics.dispose();
+            current = step;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private byte[] encode(BufferedImage image, String format) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, format, output);
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("Error while encoding thumbnail", e);
+        }
+        return output.toByteArray();
+    }
+
+}
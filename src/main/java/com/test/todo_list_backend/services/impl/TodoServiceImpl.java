@@ -1,29 +1,57 @@
 package com.test.todo_list_backend.services.impl;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.test.todo_list_backend.mappers.TodoMapper;
+import com.test.todo_list_backend.models.dtos.CursorPageResponseDTO;
+import com.test.todo_list_backend.models.dtos.SliceResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoBatchItemResultDTO;
+import com.test.todo_list_backend.models.dtos.TodoBatchOperationDTO;
+import com.test.todo_list_backend.models.dtos.TodoBatchRequestDTO;
+import com.test.todo_list_backend.models.dtos.TodoBatchResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoImageResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoListItemResponseDTO;
 import com.test.todo_list_backend.models.dtos.TodoResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoSearchResultDTO;
 import com.test.todo_list_backend.models.dtos.TodoUpdateRequestDTO;
 import com.test.todo_list_backend.models.dtos.TodosSummaryResponseDTO;
 import com.test.todo_list_backend.models.dtos.TodoRequestDTO;
 import com.test.todo_list_backend.models.entities.Todo;
-import com.test.todo_list_backend.models.entities.User;
+import com.test.todo_list_backend.models.entities.TodoStats;
+import com.test.todo_list_backend.models.enums.TodoBatchOperationType;
 import com.test.todo_list_backend.models.enums.TodoStatus;
+import com.test.todo_list_backend.repositories.TodoBulkWrite;
+import com.test.todo_list_backend.repositories.TodoBulkWriteResult;
 import com.test.todo_list_backend.repositories.TodoRepository;
+import com.test.todo_list_backend.services.ImageService;
 import com.test.todo_list_backend.services.TodoService;
+import com.test.todo_list_backend.services.TodoStatsService;
 import com.test.todo_list_backend.services.UserService;
 import com.test.todo_list_backend.services.exceptions.DefaultValidationError;
 import com.test.todo_list_backend.services.exceptions.ResourceNotFoundException;
-import com.test.todo_list_backend.utils.ConvertMultipartFileIntoBase64;
+import com.test.todo_list_backend.utils.TodoCursor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,23 +59,69 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class TodoServiceImpl implements TodoService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+
     private final TodoRepository todoRepository;
     private final UserService userService;
-    
+    private final ImageService imageService;
+    private final TodoStatsService todoStatsService;
+    private final Clock clock;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TodoListItemResponseDTO> findAllNotCompletedTodosFromConnectedUser(Pageable pageable) {
+        String userId = userService.getConnectedUserId();
+        TodoStats stats = todoStatsService.getStats(userId);
+        long total = stats.countByStatus(TodoStatus.NOT_STARTED.name()) + stats.countByStatus(TodoStatus.IN_PROGRESS.name());
+        return new PageImpl<>(this.todoRepository.findAllNotCompletedTodosByUserId(userId, pageable), pageable, total)
+            .map(TodoMapper::convertEntityToListItemResponseDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TodoListItemResponseDTO> findAllCompletedTodosFromConnectedUser(Pageable pageable) {
+        String userId = userService.getConnectedUserId();
+        TodoStats stats = todoStatsService.getStats(userId);
+        long total = stats.countByStatus(TodoStatus.COMPLETED.name());
+        return new PageImpl<>(this.todoRepository.findAllCompletedTodosByUserId(userId, pageable), pageable, total)
+            .map(TodoMapper::convertEntityToListItemResponseDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponseDTO<TodoListItemResponseDTO> findNotCompletedTodoSliceFromConnectedUser(Pageable pageable) {
+        return SliceResponseDTO.of(this.todoRepository.findNotCompletedTodoSliceByUserId(userService.getConnectedUserId(), pageable)
+            .map(TodoMapper::convertEntityToListItemResponseDTO));
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public Page<TodoResponseDTO> findAllNotCompletedTodosFromConnectedUser(Pageable pageable) {
-        User user = userService.getConnectedUser();
-        return this.todoRepository.findAllNotCompletedTodosByUserId(user.getId(), pageable)
-            .map(todo -> TodoMapper.convertEntityToResponseDTO(todo));
+    public SliceResponseDTO<TodoListItemResponseDTO> findCompletedTodoSliceFromConnectedUser(Pageable pageable) {
+        return SliceResponseDTO.of(this.todoRepository.findCompletedTodoSliceByUserId(userService.getConnectedUserId(), pageable)
+            .map(TodoMapper::convertEntityToListItemResponseDTO));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<TodoResponseDTO> findAllCompletedTodosFromConnectedUser(Pageable pageable) {
-        User user = userService.getConnectedUser();
-        return this.todoRepository.findAllCompletedTodosByUserId(user.getId(), pageable)
-            .map(todo -> TodoMapper.convertEntityToResponseDTO(todo));
+    public CursorPageResponseDTO<TodoListItemResponseDTO> findNotCompletedTodosFromConnectedUserAfter(String after, int limit) {
+        return this.findTodosFromConnectedUserAfter(List.of(TodoStatus.NOT_STARTED, TodoStatus.IN_PROGRESS), after, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<TodoListItemResponseDTO> findCompletedTodosFromConnectedUserAfter(String after, int limit) {
+        return this.findTodosFromConnectedUserAfter(List.of(TodoStatus.COMPLETED), after, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TodoSearchResultDTO> searchTodosFromConnectedUser(String query, Pageable pageable) {
+        if (query == null || query.isBlank() || query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new DefaultValidationError("Search query must have between 1 and " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        return todoRepository.searchByUserId(userService.getConnectedUserId(), query, pageable)
+            .map(TodoMapper::convertEntityToSearchResultDTO);
     }
 
     @Override
@@ -64,11 +138,10 @@ public class TodoServiceImpl implements TodoService {
         if (image == null) {
             throw new DefaultValidationError("Image is required");
         }
-        User user = userService.getConnectedUser();
-        Todo todo = TodoMapper.convertRequestDTOToEntity(request, user);
-        String todoImage = ConvertMultipartFileIntoBase64.convertMultipartFileIntoBase64(image);
-        todo.setImage(todoImage);
+        Todo todo = TodoMapper.convertRequestDTOToEntity(request, userService.getConnectedUserId());
+        todo.setImageId(this.storeImage(image));
         todoRepository.save(todo);
+        todoStatsService.recordCreated(todo);
     }
 
     @Override
@@ -76,43 +149,199 @@ public class TodoServiceImpl implements TodoService {
     public void updateTodo(String id, TodoUpdateRequestDTO request, MultipartFile image) {
         Todo todo = todoRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Todo", id));
+        Todo previous = Todo.builder()
+            .userId(todo.getUserId())
+            .status(todo.getStatus())
+            .priority(todo.getPriority())
+            .expiresAt(todo.getExpiresAt())
+            .build();
         TodoMapper.updateTodoEntity(todo, request);
+        String previousImageId = todo.getImageId();
         if (image != null) {
-            String todoImage = ConvertMultipartFileIntoBase64.convertMultipartFileIntoBase64(image);
-            todo.setImage(todoImage);
+            todo.setImageId(this.storeImage(image));
         }
         todoRepository.save(todo);
+        todoStatsService.recordUpdated(previous, todo);
+        if (image != null && previousImageId != null) {
+            imageService.release(previousImageId);
+        }
     }
 
     @Override
     @Transactional
     public void deleteTodo(String id) {
-        if (!todoRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Todo", id);
-        }
+        Todo todo = todoRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Todo", id));
         todoRepository.deleteById(id);
+        todoStatsService.recordDeleted(todo);
+        if (todo.getImageId() != null) {
+            imageService.release(todo.getImageId());
+        }
+    }
+
+    @Override
+    public TodoBatchResponseDTO executeBatch(TodoBatchRequestDTO request) {
+        String userId = userService.getConnectedUserId();
+        List<TodoBatchOperationDTO> operations = request.getOperations();
+        Set<String> ids = operations.stream()
+            .map(TodoBatchOperationDTO::getId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Map<String, Todo> ownedTodos = todoRepository.findByIdInAndUserId(ids, userId).stream()
+            .collect(Collectors.toMap(Todo::getId, Function.identity()));
+
+        TodoBatchItemResultDTO[] results = new TodoBatchItemResultDTO[operations.size()];
+        List<TodoBulkWrite> writes = new ArrayList<>();
+        List<Integer> writeIndexes = new ArrayList<>();
+        List<Todo> previousStates = new ArrayList<>();
+        List<Todo> nextStates = new ArrayList<>();
+        Set<String> touchedIds = new HashSet<>();
+        for (int i = 0; i < operations.size(); i++) {
+            TodoBatchOperationDTO operation = operations.get(i);
+            try {
+                TodoBatchOperationType type = TodoBatchOperationType.fromValue(operation.getType());
+                if (type == TodoBatchOperationType.CREATE) {
+                    Todo todo = TodoMapper.convertBatchOperationToEntity(operation, userId);
+                    todo.setId(new ObjectId().toHexString());
+                    writes.add(TodoBulkWrite.insert(todo));
+                    previousStates.add(null);
+                    nextStates.add(todo);
+                    results[i] = new TodoBatchItemResultDTO(i, todo.getId(), "CREATED", null);
+                }
+                else if (!ownedTodos.containsKey(operation.getId())) {
+                    results[i] = new TodoBatchItemResultDTO(i, operation.getId(), "NOT_FOUND", "Todo not found");
+                    continue;
+                }
+                else if (!touchedIds.add(operation.getId())) {
+                    throw new IllegalArgumentException("Todo appears more than once in the batch");
+                }
+                else if (type == TodoBatchOperationType.DELETE) {
+                    Todo previous = ownedTodos.get(operation.getId());
+                    writes.add(TodoBulkWrite.delete(operation.getId(), statsGuard(previous, true, true)));
+                    previousStates.add(previous);
+                    nextStates.add(null);
+                    results[i] = new TodoBatchItemResultDTO(i, operation.getId(), "DELETED", null);
+                }
+                else {
+                    Todo previous = ownedTodos.get(operation.getId());
+                    Todo todo = previous.toBuilder().build();
+                    // only the fields the operation carries are set, so concurrent edits to the others survive
+                    Update update = new Update();
+                    TodoMapper.updateTodoEntity(todo, operation, type).forEach(update::set);
+                    boolean movesOpenCounts = update.modifies("status") || update.modifies("expiresAt");
+                    writes.add(TodoBulkWrite.update(todo.getId(), update, statsGuard(previous, movesOpenCounts, update.modifies("priority"))));
+                    previousStates.add(previous);
+                    nextStates.add(todo);
+                    results[i] = new TodoBatchItemResultDTO(i, operation.getId(), "UPDATED", null);
+                }
+                writeIndexes.add(i);
+            }
+            catch (IllegalArgumentException e) {
+                results[i] = new TodoBatchItemResultDTO(i, operation.getId(), "INVALID", e.getMessage());
+            }
+        }
+
+        TodoBulkWriteResult result = writes.isEmpty() ? TodoBulkWriteResult.empty() : todoRepository.bulkWrite(userId, writes);
+        Map<Integer, String> errors = result.getErrors();
+        List<Todo> removed = new ArrayList<>();
+        List<Todo> added = new ArrayList<>();
+        for (int w = 0; w < writes.size(); w++) {
+            int index = writeIndexes.get(w);
+            if (errors.containsKey(w)) {
+                results[index] = new TodoBatchItemResultDTO(index, results[index].getId(), "FAILED", errors.get(w));
+                continue;
+            }
+            if (result.getUnmatched().contains(w)) {
+                results[index] = new TodoBatchItemResultDTO(index, results[index].getId(), "NOT_FOUND", "Todo not found");
+                continue;
+            }
+            if (result.getUncertain().contains(w)) {
+                continue;
+            }
+            Optional.ofNullable(previousStates.get(w)).ifPresent(removed::add);
+            Optional.ofNullable(nextStates.get(w)).ifPresent(added::add);
+        }
+        todoStatsService.recordChanges(userId, removed, added);
+        if (!result.getUncertain().isEmpty()) {
+            // the concurrent delete already recorded its own delta, so the counters are recounted instead of guessed
+            todoStatsService.requestReconcile(userId);
+        }
+        for (int w = 0; w < writes.size(); w++) {
+            Todo previous = previousStates.get(w);
+            if (!errors.containsKey(w) && !result.getUnmatched().contains(w) && !result.getUncertain().contains(w)
+                && nextStates.get(w) == null && previous.getImageId() != null) {
+                imageService.release(previous.getImageId());
+            }
+        }
+        return new TodoBatchResponseDTO(List.of(results));
     }
 
     @Override
     @Transactional(readOnly = true)
+    public TodoImageResponseDTO findTodoImage(String id, Integer size) {
+        Todo todo = todoRepository.findByIdAndUserId(id, userService.getConnectedUserId())
+            .orElseThrow(() -> new ResourceNotFoundException("Todo", id));
+        if (todo.getImageId() == null) {
+            throw new ResourceNotFoundException("Image of Todo", id);
+        }
+        return imageService.load(todo.getImageId(), size);
+    }
+
+    @Override
+    public String getTodosVersionTagFromConnectedUser() {
+        return todoStatsService.getStats(userService.getConnectedUserId()).versionTag();
+    }
+
+    @Override
+    public String getTodosSummaryVersionTagFromConnectedUser() {
+        // the overdue count moves at midnight without any write, so the day is part of the tag
+        return this.getTodosVersionTagFromConnectedUser() + "-" + LocalDate.now(clock);
+    }
+
+    @Override
+    @Transactional
     public TodosSummaryResponseDTO getTodosSummaryFromConnectedUser() {
-        List<Todo> todos = todoRepository.findByUserId(userService.getConnectedUser().getId());
-        int totalTodos = todos.size();
+        return TodoMapper.convertStatsToSummary(todoStatsService.getStats(userService.getConnectedUserId()), LocalDate.now(clock));
+    }
 
-        if (totalTodos == 0) {
-            return new TodosSummaryResponseDTO(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
-        }
+    @Override
+    @Transactional
+    public TodosSummaryResponseDTO reconcileTodosSummaryFromConnectedUser() {
+        return TodoMapper.convertStatsToSummary(todoStatsService.reconcile(userService.getConnectedUserId()), LocalDate.now(clock));
+    }
 
-        int completedTodos = todos.stream().filter(todo -> todo.getStatus().equals(TodoStatus.COMPLETED)).toList().size();
-        int inProgressTodos = todos.stream().filter(todo -> todo.getStatus().equals(TodoStatus.IN_PROGRESS)).toList().size();
-        int notStartedTodos = todos.stream().filter(todo -> todo.getStatus().equals(TodoStatus.NOT_STARTED)).toList().size();
+    private CursorPageResponseDTO<TodoListItemResponseDTO> findTodosFromConnectedUserAfter(List<TodoStatus> statuses, String after, int limit) {
+        if (limit < 1 || limit > MAX_CURSOR_PAGE_SIZE) {
+            throw new DefaultValidationError("Limit must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        TodoCursor cursor = after != null ? TodoCursor.decode(after) : null;
+        List<Todo> todos = todoRepository.findListItemsAfter(userService.getConnectedUserId(), statuses, cursor, limit + 1);
+        String nextCursor = null;
+        if (todos.size() > limit) {
+            todos = todos.subList(0, limit);
+            nextCursor = TodoCursor.encode(todos.get(limit - 1));
+        }
+        return new CursorPageResponseDTO<>(todos.stream().map(TodoMapper::convertEntityToListItemResponseDTO).toList(), nextCursor);
+    }
 
-        BigDecimal completedTodosPercentage = BigDecimal.valueOf(completedTodos).divide(BigDecimal.valueOf(totalTodos), 2, RoundingMode.HALF_UP);
-        BigDecimal inProgressTodosPercentage = BigDecimal.valueOf(inProgressTodos).divide(BigDecimal.valueOf(totalTodos), 2, RoundingMode.HALF_UP);
-        BigDecimal notStartedTodosPercentage = BigDecimal.valueOf(notStartedTodos).divide(BigDecimal.valueOf(totalTodos), 2, RoundingMode.HALF_UP);
+    // pins the fields the stats delta reads, so the delta computed from the copy read before the batch is the one applied
+    private static Criteria statsGuard(Todo previous, boolean statusAndExpiry, boolean priority) {
+        Criteria guard = null;
+        if (statusAndExpiry) {
+            guard = where("status").is(previous.getStatus()).and("expiresAt").is(previous.getExpiresAt());
+        }
+        if (priority) {
+            guard = guard == null ? where("priority").is(previous.getPriority()) : guard.and("priority").is(previous.getPriority());
+        }
+        return guard;
+    }
 
-        
-        return new TodosSummaryResponseDTO(completedTodosPercentage, inProgressTodosPercentage, notStartedTodosPercentage);
+    private String storeImage(MultipartFile image) {
+        String contentType = image.getContentType();
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new DefaultValidationError("Image must have an image/* content type");
+        }
+        return imageService.store(image, image.getOriginalFilename(), contentType);
     }
 
 }
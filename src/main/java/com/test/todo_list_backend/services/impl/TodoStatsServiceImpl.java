@@ -0,0 +1,145 @@
+package com.test.todo_list_backend.services.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.test.todo_list_backend.migrations.DataMigrationRunner;
+import com.test.todo_list_backend.models.dtos.TodoCountDTO;
+import com.test.todo_list_backend.models.entities.Todo;
+import com.test.todo_list_backend.models.entities.TodoStats;
+import com.test.todo_list_backend.models.enums.TodoStatus;
+import com.test.todo_list_backend.repositories.TodoRepository;
+import com.test.todo_list_backend.repositories.TodoStatsRepository;
+import com.test.todo_list_backend.services.TodoStatsService;
+import com.test.todo_list_backend.services.exceptions.ServiceOverloadedException;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class TodoStatsServiceImpl implements TodoStatsService {
+
+    private static final String VERSION = "version";
+    private static final int MAX_RECONCILE_ATTEMPTS = 3;
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(5);
+
+    private final TodoStatsRepository todoStatsRepository;
+    private final TodoRepository todoRepository;
+    private final DataMigrationRunner dataMigrationRunner;
+
+    @Value("${todos.stats.reconcile-interval}")
+    private Duration reconcileInterval;
+
+    @Override
+    public TodoStats getStats(String userId) {
+        Optional<TodoStats> stats = todoStatsRepository.findById(userId);
+        if (stats.isEmpty() || stats.get().getReconciledAt() == null) {
+            return this.reconcile(userId);
+        }
+        if (stats.get().getReconciledAt().isAfter(LocalDateTime.now().minus(reconcileInterval))) {
+            return stats.get();
+        }
+        // periodic recount bounds any drift left by writes that raced a reconciliation
+        try {
+            return this.reconcile(userId);
+        }
+        catch (ServiceOverloadedException e) {
+            return stats.get();
+        }
+    }
+
+    @Override
+    public TodoStats reconcile(String userId) {
+        if (!dataMigrationRunner.isCompleted()) {
+            // todos that have not been backfilled with userId yet would be missing from the counts
+            throw new ServiceOverloadedException("Todo summary is unavailable until data migrations complete, try again later", RETRY_AFTER);
+        }
+        // the document exists before counting, so every $inc that lands while counting bumps the version and fails the swap
+        for (int attempt = 0; attempt < MAX_RECONCILE_ATTEMPTS; attempt++) {
+            TodoStats current = todoStatsRepository.findById(userId)
+                .orElseGet(() -> todoStatsRepository.insertIfAbsent(userId));
+            TodoStats counted = this.count(userId);
+            if (todoStatsRepository.replaceCountersIfVersion(counted, current.getVersion())) {
+                counted.setVersion(current.getVersion() + 1);
+                return counted;
+            }
+        }
+        throw new ServiceOverloadedException("Todos are changing too quickly to reconcile the summary, try again later", RETRY_AFTER);
+    }
+
+    @Override
+    public void requestReconcile(String userId) {
+        // getStats recounts any document without reconciledAt, so the next read repairs the counters
+        todoStatsRepository.clearReconciledAt(userId);
+    }
+
+    private TodoStats count(String userId) {
+        TodoStats stats = TodoStats.builder()
+            .userId(userId)
+            .statusCounts(new HashMap<>())
+            .priorityCounts(new HashMap<>())
+            .openTodosByExpiryDate(new HashMap<>())
+            .reconciledAt(LocalDateTime.now())
+            .build();
+        for (TodoCountDTO count : todoRepository.countTodosByStatusPriorityAndExpiryDate(userId, ZoneId.systemDefault().getId())) {
+            stats.getStatusCounts().merge(count.getStatus().name(), count.getCount(), Long::sum);
+            stats.getPriorityCounts().merge(count.getPriority().name(), count.getCount(), Long::sum);
+            if (count.getStatus() != TodoStatus.COMPLETED && count.getExpiryDate() != null) {
+                stats.getOpenTodosByExpiryDate().merge(count.getExpiryDate(), count.getCount(), Long::sum);
+            }
+        }
+        return stats;
+    }
+
+    @Override
+    public void recordCreated(Todo todo) {
+        this.apply(todo.getUserId(), counters(todo, 1L));
+    }
+
+    @Override
+    public void recordUpdated(Todo previous, Todo current) {
+        this.recordChanges(current.getUserId(), List.of(previous), List.of(current));
+    }
+
+    @Override
+    public void recordDeleted(Todo todo) {
+        this.apply(todo.getUserId(), counters(todo, -1L));
+    }
+
+    @Override
+    public void recordChanges(String userId, List<Todo> removed, List<Todo> added) {
+        Map<String, Long> deltas = new HashMap<>();
+        removed.forEach(todo -> counters(todo, -1L).forEach((key, delta) -> deltas.merge(key, delta, Long::sum)));
+        added.forEach(todo -> counters(todo, 1L).forEach((key, delta) -> deltas.merge(key, delta, Long::sum)));
+        deltas.values().removeIf(delta -> delta == 0L);
+        this.apply(userId, deltas);
+    }
+
+    private void apply(String userId, Map<String, Long> deltas) {
+        if (userId == null) {
+            return;
+        }
+        Map<String, Long> increments = new HashMap<>(deltas);
+        increments.put(VERSION, 1L);
+        todoStatsRepository.incrementCounters(userId, increments);
+    }
+
+    private static Map<String, Long> counters(Todo todo, long delta) {
+        Map<String, Long> counters = new HashMap<>();
+        counters.put("statusCounts." + todo.getStatus().name(), delta);
+        counters.put("priorityCounts." + todo.getPriority().name(), delta);
+        if (todo.getStatus() != TodoStatus.COMPLETED && todo.getExpiresAt() != null) {
+            counters.put("openTodosByExpiryDate." + todo.getExpiresAt().toLocalDate(), delta);
+        }
+        return counters;
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.test.todo_list_backend.services.impl;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.ZipException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.test.todo_list_backend.mappers.TodoMapper;
+import com.test.todo_list_backend.models.dtos.TodoExportDTO;
+import com.test.todo_list_backend.models.dtos.TodoImportErrorDTO;
+import com.test.todo_list_backend.models.dtos.TodoImportResponseDTO;
+import com.test.todo_list_backend.models.entities.Todo;
+import com.test.todo_list_backend.repositories.TodoBulkWrite;
+import com.test.todo_list_backend.repositories.TodoRepository;
+import com.test.todo_list_backend.services.TodoStatsService;
+import com.test.todo_list_backend.services.TodoTransferService;
+import com.test.todo_list_backend.services.UserService;
+import com.test.todo_list_backend.services.exceptions.InvalidPayloadException;
+import com.test.todo_list_backend.services.exceptions.PayloadTooLargeException;
+import com.test.todo_list_backend.services.exceptions.TodoImportAbortedException;
+import com.test.todo_list_backend.utils.BoundedLineReader;
+import com.test.todo_list_backend.utils.SizeLimitedInputStream;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class TodoTransferServiceImpl implements TodoTransferService {
+
+    private final TodoRepository todoRepository;
+    private final TodoStatsService todoStatsService;
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${todos.transfer.batch-size}")
+    private int batchSize;
+    @Value("${todos.transfer.max-reported-errors}")
+    private int maxReportedErrors;
+    @Value("${todos.transfer.max-line-length}")
+    private int maxLineLength;
+    @Value("${todos.transfer.max-import-size}")
+    private DataSize maxImportSize;
+
+    @Override
+    public void exportTodosFromConnectedUser(OutputStream outputStream) {
+        String userId = userService.getConnectedUserId();
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (Stream<Todo> todos = todoRepository.streamAllByUserId(userId, batchSize);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            for (Todo todo : (Iterable<Todo>) todos::iterator) {
+                writer.writeValue(generator, TodoMapper.convertEntityToExportDTO(todo));
+                generator.writeRaw('\n');
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public TodoImportResponseDTO importTodosFromConnectedUser(InputStream inputStream) {
+        String userId = userService.getConnectedUserId();
+        ObjectReader reader = objectMapper.readerFor(TodoExportDTO.class);
+        TodoImportResponseDTO response = new TodoImportResponseDTO(0L, 0L, new ArrayList<>(), null);
+        List<Todo> chunk = new ArrayList<>(batchSize);
+        List<Long> chunkLines = new ArrayList<>(batchSize);
+        // the size cap applies to the decompressed bytes, so it also bounds gzip bodies
+        InputStream limited = new SizeLimitedInputStream(inputStream, maxImportSize.toBytes());
+        try (BoundedLineReader lines = new BoundedLineReader(new InputStreamReader(limited, StandardCharsets.UTF_8), maxLineLength)) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                long lineNumber = lines.getLineNumber();
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    chunk.add(TodoMapper.convertExportDTOToEntity(reader.readValue(line), userId));
+                    chunkLines.add(lineNumber);
+                }
+                catch (JsonProcessingException e) {
+                    this.reportError(response, lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+                }
+                catch (IllegalArgumentException e) {
+                    this.reportError(response, lineNumber, e.getMessage());
+                }
+                if (chunk.size() == batchSize) {
+                    this.insertChunk(userId, chunk, chunkLines, response);
+                }
+            }
+        }
+        catch (ZipException | EOFException e) {
+            this.abort(userId, chunk, chunkLines, response, new InvalidPayloadException("Invalid or truncated gzip body: " + e.getMessage()));
+        }
+        catch (PayloadTooLargeException e) {
+            this.abort(userId, chunk, chunkLines, response, e);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.insertChunk(userId, chunk, chunkLines, response);
+        return response;
+    }
+
+    // earlier chunks are already stored, so the caller gets the report of what made it in rather than a bare error
+    private void abort(String userId, List<Todo> chunk, List<Long> chunkLines, TodoImportResponseDTO response, RuntimeException cause) {
+        this.insertChunk(userId, chunk, chunkLines, response);
+        response.setAbortedReason(cause.getMessage());
+        throw new TodoImportAbortedException(response, cause);
+    }
+
+    private void insertChunk(String userId, List<Todo> chunk, List<Long> chunkLines, TodoImportResponseDTO response) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Map<Integer, String> errors = todoRepository.bulkWrite(userId, chunk.stream().map(TodoBulkWrite::insert).toList()).getErrors();
+        List<Todo> inserted = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            if (errors.containsKey(i)) {
+                this.reportError(response, chunkLines.get(i), errors.get(i));
+            }
+            else {
+                inserted.add(chunk.get(i));
+            }
+        }
+        todoStatsService.recordChanges(userId, List.of(), inserted);
+        response.setImported(response.getImported() + inserted.size());
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    private void reportError(TodoImportResponseDTO response, long line, String message) {
+        response.setFailed(response.getFailed() + 1);
+        if (response.getErrors().size() < maxReportedErrors) {
+            response.getErrors().add(new TodoImportErrorDTO(line, message));
+        }
+    }
+
+}
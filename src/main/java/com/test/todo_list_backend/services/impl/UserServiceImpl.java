@@ -5,9 +5,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -18,8 +16,8 @@ import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
-import com.sendgrid.helpers.mail.Mail;
 import com.test.todo_list_backend.mappers.UserMapper;
 import com.test.todo_list_backend.models.dtos.AccountActivationRequestDTO;
 import com.test.todo_list_backend.models.dtos.LoginRequestDTO;
@@ -34,7 +32,7 @@ import com.test.todo_list_backend.models.entities.User;
 import com.test.todo_list_backend.repositories.ActivationCodeRepository;
 import com.test.todo_list_backend.repositories.RoleRepository;
 import com.test.todo_list_backend.repositories.UserRepository;
-import com.test.todo_list_backend.services.EmailService;
+import com.test.todo_list_backend.services.EmailOutboxService;
 import com.test.todo_list_backend.services.UserService;
 import com.test.todo_list_backend.services.exceptions.AccountNotActivatedException;
 import com.test.todo_list_backend.services.exceptions.AlreadyExistingEmailException;
@@ -54,12 +52,16 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final ActivationCodeRepository activationCodeRepository;
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
     private final PasswordEncoder passwordEncoder;
     private final JwtEncoder jwtEncoder;
     private final JwtDecoder jwtDecoder;
-    private final AuthenticationManager authenticationManager;
     private final ObtainUserEmailFromJWT obtainUserEmailFromJWT;
+    private final TransactionOperations transactionOperations;
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final String ACTIVATION_CODE_CHARS = "0123456789";
+    private static final int ACTIVATION_CODE_LENGTH = 9;
 
     private final long SECONDS_IN_A_DAY = 86400L;
 
@@ -73,29 +75,30 @@ public class UserServiceImpl implements UserService {
         User user = UserMapper.convertRequestDTOToEntity(request, this.passwordEncoder);
         Role role = roleRepository.findByAuthority("ROLE_USER");
         user.addRole(role);
-        user = userRepository.save(user);
-        this.sendConfirmationEmail(user);
+        transactionOperations.executeWithoutResult(status -> this.sendConfirmationEmail(userRepository.save(user)));
     }
 
     @Override
     @Transactional
     public void sendConfirmationEmail(User user) {
-        String code = this.generateAndSaveActivationCode(user);
-        Mail mail = emailService.createEmailTemplate(user.getEmail(), user.getFullName(), code, "Ativação de Conta");
-        emailService.sendEmail(mail);
+        transactionOperations.executeWithoutResult(status -> {
+            String code = this.generateAndSaveActivationCode(user);
+            emailOutboxService.enqueueConfirmationEmail(user.getEmail(), user.getFullName(), code, "Ativação de Conta");
+        });
     }
 
     @Override
     @Transactional
     public String generateAndSaveActivationCode(User user) {
         String code = this.generateCode();
+        while (activationCodeRepository.existsByCode(ActivationCode.hash(code))) {
+            code = this.generateCode();
+        }
         ActivationCode activationCode = ActivationCode.builder()
-            .code(code)
+            .code(ActivationCode.hash(code))
             .user(user)
             .createdAt(LocalDateTime.now())
             .expiresAt(LocalDateTime.now().plusMinutes(30L))
-            .isValidated(false)
-            .validatedAt(null)
             .build();
         activationCodeRepository.save(activationCode);
         return code;
@@ -103,13 +106,9 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public String generateCode() {
-        String chars = "0123456789";
-        SecureRandom secureRandom = new SecureRandom();
-        StringBuilder stringBuilder = new StringBuilder();
-        int charsLength = chars.length() - 1;
-        for (int i = 0; i < charsLength; i++) {
-            int randomIndex = secureRandom.nextInt(charsLength);
-            stringBuilder.append(chars.charAt(randomIndex));
+        StringBuilder stringBuilder = new StringBuilder(ACTIVATION_CODE_LENGTH);
+        for (int i = 0; i < ACTIVATION_CODE_LENGTH; i++) {
+            stringBuilder.append(ACTIVATION_CODE_CHARS.charAt(SECURE_RANDOM.nextInt(ACTIVATION_CODE_CHARS.length())));
         }
         return stringBuilder.toString();
     }
@@ -117,20 +116,22 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public LoginResponseDTO login(LoginRequestDTO request) {
-        User user = userRepository.findByEmail(request.getEmail())
+        User user = userRepository.findLoginUserByEmail(request.getEmail())
             .orElseThrow(() -> new UsernameNotFoundException("User with username " + request.getEmail() + " not found"));
         if (!user.isActive()) {
             throw new AccountNotActivatedException("Account not activated");
         }
-        Authentication authentication = UsernamePasswordAuthenticationToken.unauthenticated(request.getEmail(), request.getPassword());
-        Authentication response = authenticationManager.authenticate(authentication);
+        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+            throw new BadCredentialsException("Invalid Credentials");
+        }
         JwtClaimsSet claims = JwtClaimsSet.builder()
             .issuer("todo-list-app-auth")
-            .subject(response.getName())
-            .claim("username", response.getName())
+            .subject(user.getEmail())
+            .claim("userId", user.getId())
+            .claim("username", user.getEmail())
             .claim("nickname", user.getUserName())
             .claim("fullName", user.getFullName())
-            .claim("authorities", response.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList())
+            .claim("authorities", user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList())
             .issuedAt(Instant.now())
             .expiresAt(Instant.now().plusSeconds(SECONDS_IN_A_DAY))
             .build();
@@ -139,20 +140,23 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    @Transactional
+    @Transactional(noRollbackFor = ExpiredActivationCodeException.class)
     public void activateAccount(AccountActivationRequestDTO request) {
-        ActivationCode activationCode = this.activationCodeRepository.findByCode(request.getCode())
+        ActivationCode activationCode = this.activationCodeRepository.findByCode(ActivationCode.hash(request.getCode()))
             .orElseThrow(() -> new ResourceNotFoundException("Activation Code", request.getCode()));
         User user = activationCode.getUser();
         if (!activationCode.isValid()) {
-            this.sendConfirmationEmail(user);
+            transactionOperations.executeWithoutResult(status -> {
+                activationCodeRepository.delete(activationCode);
+                this.sendConfirmationEmail(user);
+            });
             throw new ExpiredActivationCodeException(user.getEmail());
         }
-        user.setActive(true);
-        userRepository.save(user);
-        activationCode.setValidated(true);
-        activationCode.setValidatedAt(LocalDateTime.now());
-        activationCodeRepository.save(activationCode);
+        transactionOperations.executeWithoutResult(status -> {
+            activationCodeRepository.delete(activationCode);
+            user.setActive(true);
+            userRepository.save(user);
+        });
     }
 
     @Override
@@ -172,12 +176,23 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public User getConnectedUser() {
+        String userId = obtainUserEmailFromJWT.getUserId();
+        if (userId != null) {
+            return userRepository.findById(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("User with id " + userId + " not found"));
+        }
         String email = obtainUserEmailFromJWT.getUserEmail();
         User user = userRepository.findByEmail(email)
             .orElseThrow(() -> new UsernameNotFoundException("User with username " + email + " not found"));
         return user;
     }
 
+    @Override
+    public String getConnectedUserId() {
+        String userId = obtainUserEmailFromJWT.getUserId();
+        return userId != null ? userId : this.getConnectedUser().getId();
+    }
+
     @Override
     @Transactional
     public VerifyExistingEmailResponseDTO verifyExistingEmail(String email) {
@@ -193,8 +208,12 @@ public class UserServiceImpl implements UserService {
         if (existingUser.isPresent() && !existingUser.get().getId().equals(user.getId())) {
             throw new AlreadyExistingEmailException("Email already exists");
         }
+        String previousEmail = user.getEmail();
         UserMapper.updateUserEntity(user, request);
         userRepository.save(user);
+        if (!previousEmail.equals(user.getEmail())) {
+            userRepository.evictCachedUser(null, previousEmail);
+        }
     }
 
     @Override
@@ -0,0 +1,78 @@
+package com.test.todo_list_backend.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+import com.test.todo_list_backend.services.exceptions.PayloadTooLargeException;
+
+public class BoundedLineReader implements Closeable {
+
+    private final Reader reader;
+    private final int maxLineLength;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder line = new StringBuilder();
+    private int position;
+    private int limit;
+    private long lineNumber;
+
+    public BoundedLineReader(Reader reader, int maxLineLength) {
+        this.reader = reader;
+        this.maxLineLength = maxLineLength;
+    }
+
+    // splits on \n and strips a trailing \r, failing fast instead of buffering an unbounded line
+    public String readLine() throws IOException {
+        line.setLength(0);
+        boolean read = false;
+        while (true) {
+            if (position == limit) {
+                limit = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return read ? this.endLine() : null;
+                }
+            }
+            read = true;
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            line.append(buffer, start, position - start);
+            if (line.length() > maxLineLength + 1) {
+                throw this.lineTooLong();
+            }
+            if (position < limit) {
+                position++;
+                return this.endLine();
+            }
+        }
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    private String endLine() {
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(--length);
+        }
+        if (length > maxLineLength) {
+            throw this.lineTooLong();
+        }
+        lineNumber++;
+        return line.toString();
+    }
+
+    private PayloadTooLargeException lineTooLong() {
+        return new PayloadTooLargeException("Line " + (lineNumber + 1) + " exceeds the limit of " + maxLineLength + " characters");
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.test.todo_list_backend.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.unbescape.html.HtmlEscape;
+
+public class CompiledEmailTemplate {
+
+    private final String name;
+    private final long version;
+    private final String[] segments;
+    private final String[] variables;
+    private final int staticLength;
+
+    private CompiledEmailTemplate(String name, long version, String[] segments, String[] variables) {
+        this.name = name;
+        this.version = version;
+        this.segments = segments;
+        this.variables = variables;
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.staticLength = length;
+    }
+
+    public static CompiledEmailTemplate compile(String name, long version, String skeleton, Map<String, String> markers) {
+        List<String> segments = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int next = -1;
+            String variable = null;
+            for (Map.Entry<String, String> marker : markers.entrySet()) {
+                int index = skeleton.indexOf(marker.getValue(), position);
+                if (index != -1 && (next == -1 || index < next)) {
+                    next = index;
+                    variable = marker.getKey();
+                }
+            }
+            if (next == -1) {
+                break;
+            }
+            segments.add(skeleton.substring(position, next));
+            variables.add(variable);
+            position = next + markers.get(variable).length();
+        }
+        segments.add(skeleton.substring(position));
+        return new CompiledEmailTemplate(name, version, segments.toArray(String[]::new), variables.toArray(String[]::new));
+    }
+
+    public String render(Map<String, String> values) {
+        StringBuilder builder = new StringBuilder(staticLength + variables.length * 32);
+        for (int i = 0; i < variables.length; i++) {
+            builder.append(segments[i]);
+            String value = values.get(variables[i]);
+            if (value != null) {
+                builder.append(HtmlEscape.escapeHtml4Xml(value));
+            }
+        }
+        return builder.append(segments[variables.length]).toString();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+}
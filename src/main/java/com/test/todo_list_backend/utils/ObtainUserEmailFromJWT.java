@@ -2,16 +2,24 @@ package com.test.todo_list_backend.utils;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 
+import com.test.todo_list_backend.security.AuthenticatedUser;
+
 @Service
 public class ObtainUserEmailFromJWT {
 
     public String getUserEmail() {
+        return this.getAuthenticatedUser().getEmail();
+    }
+
+    public String getUserId() {
+        return this.getAuthenticatedUser().getId();
+    }
+
+    private AuthenticatedUser getAuthenticatedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        Jwt jwtPrincipal = (Jwt) authentication.getPrincipal();
-        return jwtPrincipal.getClaim("username");
+        return (AuthenticatedUser) authentication.getPrincipal();
     }
 
 }
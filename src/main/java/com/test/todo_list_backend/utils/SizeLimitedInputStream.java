@@ -0,0 +1,56 @@
+package com.test.todo_list_backend.utils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.test.todo_list_backend.services.exceptions.PayloadTooLargeException;
+
+public class SizeLimitedInputStream extends FilterInputStream {
+
+    private final long maxBytes;
+    private long readBytes;
+
+    public SizeLimitedInputStream(InputStream in, long maxBytes) {
+        super(in);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            this.count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            this.count(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        this.count(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void count(long n) {
+        readBytes += n;
+        if (readBytes > maxBytes) {
+            throw new PayloadTooLargeException("Payload exceeds the limit of " + maxBytes + " bytes");
+        }
+    }
+
+}
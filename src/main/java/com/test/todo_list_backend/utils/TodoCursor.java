@@ -0,0 +1,46 @@
+package com.test.todo_list_backend.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+
+import org.bson.types.ObjectId;
+
+import com.test.todo_list_backend.models.entities.Todo;
+import com.test.todo_list_backend.services.exceptions.DefaultValidationError;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TodoCursor {
+
+    private final LocalDateTime createdAt;
+    private final String id;
+
+    public static String encode(Todo todo) {
+        long createdAt = todo.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String value = createdAt + ":" + todo.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(':');
+            LocalDateTime createdAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(value.substring(0, separator))), ZoneId.systemDefault());
+            String id = value.substring(separator + 1);
+            if (!ObjectId.isValid(id)) {
+                throw new IllegalArgumentException(id);
+            }
+            return new TodoCursor(createdAt, id);
+        }
+        catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new DefaultValidationError("Invalid cursor");
+        }
+    }
+
+}
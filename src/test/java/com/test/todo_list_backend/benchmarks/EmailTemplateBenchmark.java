@@ -0,0 +1,68 @@
+package com.test.todo_list_backend.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import com.test.todo_list_backend.services.impl.EmailTemplateServiceImpl;
+
+// Run the main method from the test classpath, e.g. from the IDE.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    private SpringTemplateEngine springTemplateEngine;
+    private EmailTemplateServiceImpl emailTemplateService;
+    private Map<String, String> variables;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        springTemplateEngine = new SpringTemplateEngine();
+        springTemplateEngine.setTemplateResolver(resolver);
+        emailTemplateService = new EmailTemplateServiceImpl(springTemplateEngine);
+        variables = Map.of("username", "Fernando Canabarro", "code", "123456");
+    }
+
+    @Benchmark
+    public String thymeleaf() {
+        Context context = new Context();
+        context.setVariables(Map.copyOf(variables));
+        return springTemplateEngine.process("email_confirmation", context);
+    }
+
+    @Benchmark
+    public String precompiled() {
+        return emailTemplateService.render("email_confirmation", variables);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EmailTemplateBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
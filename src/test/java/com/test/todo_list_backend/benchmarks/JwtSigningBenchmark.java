@@ -0,0 +1,94 @@
+package com.test.todo_list_backend.benchmarks;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.test.todo_list_backend.security.JwtConfig;
+import com.test.todo_list_backend.security.JwtSigningKeys;
+import com.test.todo_list_backend.security.SigningKeyJwtEncoder;
+
+// Run the main method from the test classpath, e.g. from the IDE.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    @Param({ "RS256", "ES256", "EdDSA" })
+    private String algorithm;
+
+    private JwtEncoder jwtEncoder;
+    private JwtDecoder jwtDecoder;
+    private JwtEncoderParameters parameters;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JOSEException {
+        JWK key = switch (algorithm) {
+            case "RS256" -> new RSAKeyGenerator(2048).keyID(algorithm).generate();
+            case "ES256" -> new ECKeyGenerator(Curve.P_256).keyID(algorithm).generate();
+            default -> new OctetKeyPairGenerator(Curve.Ed25519).keyID(algorithm).generate();
+        };
+        JwtSigningKeys signingKeys = JwtSigningKeys.of(new JWKSet(key), algorithm);
+        jwtEncoder = new SigningKeyJwtEncoder(signingKeys);
+        jwtDecoder = JwtConfig.verifyingDecoder(signingKeys);
+        parameters = JwtEncoderParameters.from(JwtClaimsSet.builder()
+            .issuer("todo-list-app-auth")
+            .subject("fernando@gmail.com")
+            .claim("userId", "67f1c2a9e4b0a1b2c3d4e5f6")
+            .claim("username", "fernando@gmail.com")
+            .claim("nickname", "fernando")
+            .claim("fullName", "Fernando Canabarro")
+            .claim("authorities", List.of("ROLE_USER"))
+            .issuedAt(Instant.now())
+            .expiresAt(Instant.now().plusSeconds(86400))
+            .build());
+        token = jwtEncoder.encode(parameters).getTokenValue();
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtEncoder.encode(parameters).getTokenValue();
+    }
+
+    @Benchmark
+    public Jwt verify() {
+        return jwtDecoder.decode(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtSigningBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
@@ -17,8 +17,8 @@ public class TodoFactory {
             .description("description")
             .priority(TodoPriority.LOW)
             .status(TodoStatus.NOT_STARTED)
-            .image("image")
-            .user(UserFactory.create())
+            .imageId("imageId")
+            .userId(UserFactory.create().getId())
             .createdAt(LocalDateTime.now())
             .expiresAt(LocalDateTime.now().plusDays(1))
             .build();
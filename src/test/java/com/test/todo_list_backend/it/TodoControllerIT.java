@@ -1,9 +1,15 @@
 package com.test.todo_list_backend.it;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.Instant;
@@ -23,11 +29,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.testcontainers.containers.MongoDBContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -41,12 +49,14 @@ import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.result.InsertOneResult;
 import com.test.todo_list_backend.models.dtos.TodoRequestDTO;
 import com.test.todo_list_backend.models.dtos.TodoUpdateRequestDTO;
+import com.test.todo_list_backend.utils.SendGridStubConfig;
 import com.test.todo_list_backend.utils.TokenUtils;
 
 @AutoConfigureMockMvc
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
 @TestMethodOrder(OrderAnnotation.class)
 @Testcontainers
+@Import(SendGridStubConfig.class)
 public class TodoControllerIT {
 
     @Autowired
@@ -76,6 +86,8 @@ public class TodoControllerIT {
     static void setProperties(DynamicPropertyRegistry registry) {
         registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
         registry.add("spring.data.mongodb.database", () -> "todo-list-app");
+        registry.add("migrations.todo-user-references.enabled", () -> "false");
+        registry.add("migrations.todo-images.enabled", () -> "false");
     }
 
     @BeforeAll
@@ -101,20 +113,18 @@ public class TodoControllerIT {
             "description", "description",
             "priority", "EXTREME",
             "status", "NOT_STARTED",
-            "image", "image",
             "createdAt", Instant.parse("2025-04-07T00:48:43.566Z"),
             "expiresAt", Instant.parse("2025-04-07T00:48:00.000Z"),
-            "user", user
+            "userId", user.getObjectId("_id")
         ));
         Document completedTodo = new Document(Map.of(
             "title", "title",
             "description", "description",
             "priority", "EXTREME",
             "status", "COMPLETED",
-            "image", "image",
             "createdAt", Instant.parse("2025-04-07T00:48:43.566Z"),
             "expiresAt", Instant.parse("2025-04-07T00:48:00.000Z"),
-            "user", user
+            "userId", user.getObjectId("_id")
         ));
         InsertOneResult result = todos.insertOne(notCompletedTodo);
         todoId = result.getInsertedId().asObjectId().getValue().toHexString();
@@ -177,7 +187,8 @@ public class TodoControllerIT {
             .accept(MediaType.APPLICATION_JSON))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.content").isArray())
-            .andExpect(jsonPath("$.content[0].title").value("title"));
+            .andExpect(jsonPath("$.content[0].title").value("title"))
+            .andExpect(jsonPath("$.content[0].hasImage").value(false));
     }
 
     @Test
@@ -197,7 +208,40 @@ public class TodoControllerIT {
             .accept(MediaType.APPLICATION_JSON))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.content").isArray())
-            .andExpect(jsonPath("$.content[0].title").value("title"));
+            .andExpect(jsonPath("$.content[0].title").value("title"))
+            .andExpect(jsonPath("$.content[0].hasImage").value(false));
+    }
+
+    @Test
+    @Order(2)
+    public void findCompletedTodosFromConnectedUserAfterShouldReturnCursorPageAndStatus200WhenLimitIsProvided() throws Exception {
+        mockMvc.perform(get("/todos/completed?limit=1")
+            .header("Authorization", "Bearer " + token)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].title").value("title"))
+            .andExpect(jsonPath("$.nextCursor").isEmpty())
+            .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @Order(2)
+    public void findCompletedTodoSliceFromConnectedUserShouldReturnSliceAndStatus200WhenWithTotalIsFalse() throws Exception {
+        mockMvc.perform(get("/todos/completed?withTotal=false")
+            .header("Authorization", "Bearer " + token)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].title").value("title"))
+            .andExpect(jsonPath("$.hasNext").value(false))
+            .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    public void findCompletedTodosFromConnectedUserAfterShouldReturnStatus422WhenCursorIsInvalid() throws Exception {
+        mockMvc.perform(get("/todos/completed?limit=1&after=invalid")
+            .header("Authorization", "Bearer " + token)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isUnprocessableEntity());
     }
 
     @Test
@@ -219,6 +263,14 @@ public class TodoControllerIT {
             .andExpect(jsonPath("$.title").value("title"));  
     }
 
+    @Test
+    @Order(4)
+    public void findTodoImageShouldReturnStatus404WhenTodoHasNoImage() throws Exception {
+        mockMvc.perform(get("/todos/" + todoId + "/image")
+            .header("Authorization", "Bearer " + token))
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     public void findByIdShouldReturnStatus401WhenAuthTokenIsNotProvided() throws Exception {
         mockMvc.perform(get("/todos/" + todoId)
@@ -250,6 +302,139 @@ public class TodoControllerIT {
             .andExpect(jsonPath("$.notStartedTodosPercentage").value(0.50));  
     }
 
+    @Test
+    @Order(5)
+    public void getTodosSummaryFromConnectedUserShouldReturnStatus304WhenETagIsUnchanged() throws Exception {
+        String eTag = mockMvc.perform(get("/todos/summary")
+            .header("Authorization", "Bearer " + token)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/todos/summary")
+            .header("Authorization", "Bearer " + token)
+            .header("If-None-Match", eTag)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+
+        mockMvc.perform(get("/todos")
+            .header("Authorization", "Bearer " + token)
+            .header("If-None-Match", eTag)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @Order(5)
+    public void getTodosFromConnectedUserShouldNotReturnStatus304ForAnotherPageWithSameETag() throws Exception {
+        String eTag = mockMvc.perform(get("/todos?page=0")
+            .header("Authorization", "Bearer " + token)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/todos?page=0")
+            .header("Authorization", "Bearer " + token)
+            .header("If-None-Match", eTag)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/todos?page=1")
+            .header("Authorization", "Bearer " + token)
+            .header("If-None-Match", eTag)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @Order(5)
+    public void exportTodosFromConnectedUserShouldStreamNdjsonAndStatus200() throws Exception {
+        MvcResult result = mockMvc.perform(get("/todos/export")
+            .header("Authorization", "Bearer " + token))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string(containsString("\"title\"")));
+    }
+
+    @Test
+    @Order(5)
+    public void exportTodosFromConnectedUserShouldNotCompressWhenGzipIsRefused() throws Exception {
+        MvcResult result = mockMvc.perform(get("/todos/export")
+            .header("Authorization", "Bearer " + token)
+            .header("Accept-Encoding", "gzip;q=0, identity"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("Content-Encoding"))
+            .andExpect(content().string(containsString("\"title\"")));
+    }
+
+    @Test
+    public void importTodosToConnectedUserShouldReturn413WhenALineIsTooLong() throws Exception {
+        mockMvc.perform(post("/todos/import")
+            .header("Authorization", "Bearer " + token)
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content("{\"title\":\"" + "a".repeat(20000) + "\"}\n"))
+            .andExpect(status().isPayloadTooLarge())
+            .andExpect(jsonPath("$.imported").value(0))
+            .andExpect(jsonPath("$.abortedReason").value(containsString("Line 1")));
+    }
+
+    @Test
+    public void importTodosToConnectedUserShouldReturn400WhenGzipBodyIsInvalid() throws Exception {
+        mockMvc.perform(post("/todos/import")
+            .header("Authorization", "Bearer " + token)
+            .header("Content-Encoding", "x-gzip")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content("not gzip"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void importTodosToConnectedUserShouldReportImportedAndFailedLinesAndStatus200() throws Exception {
+        String body = """
+            {"title":"imported","description":"description","priority":1,"expiresAt":"2030-01-01T00:00:00"}
+            {"title":"missing fields"}
+            """;
+        mockMvc.perform(post("/todos/import")
+            .header("Authorization", "Bearer " + token)
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(1))
+            .andExpect(jsonPath("$.failed").value(1))
+            .andExpect(jsonPath("$.errors[0].line").value(2));
+    }
+
+    @Test
+    @Order(5)
+    public void searchTodosFromConnectedUserShouldReturnMatchingTodosAndStatus200() throws Exception {
+        mockMvc.perform(get("/todos/search")
+            .param("q", "title")
+            .header("Authorization", "Bearer " + token)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content").isArray())
+            .andExpect(jsonPath("$.content[0].imageUrl").doesNotExist());
+    }
+
+    @Test
+    public void searchTodosFromConnectedUserShouldReturnStatus422WhenQueryIsBlank() throws Exception {
+        mockMvc.perform(get("/todos/search")
+            .param("q", " ")
+            .header("Authorization", "Bearer " + token)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isUnprocessableEntity());
+    }
+
     @Test
     public void getTodosSummaryFromConnectedUserShouldReturnStatus401WhenAuthTokenIsNotProvided() throws Exception {
         mockMvc.perform(get("/todos/summary")
@@ -258,6 +443,73 @@ public class TodoControllerIT {
             .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    public void executeBatchShouldReturnPerItemResultsAndStatus200() throws Exception {
+        String body = """
+            { "operations": [
+                { "type": 1, "title": "title", "description": "description", "priority": 1, "expiresAt": "2030-01-01T00:00:00" },
+                { "type": 4, "id": "0123456789abcdef01234567" }
+            ] }
+            """;
+        mockMvc.perform(post("/todos/batch")
+            .header("Authorization", "Bearer " + token)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.results[1].status").value("NOT_FOUND"));
+    }
+
+    @Test
+    public void executeBatchShouldReportFailedItemAndKeepTheOthersWhenOneWriteIsRejected() throws Exception {
+        database.runCommand(new Document("collMod", "todos").append("validator", new Document("title", new Document("$ne", "rejected"))));
+        String body = """
+            { "operations": [
+                { "type": 1, "title": "rejected", "description": "description", "priority": 1, "expiresAt": "2030-01-01T00:00:00" },
+                { "type": 1, "title": "accepted", "description": "description", "priority": 1, "expiresAt": "2030-01-01T00:00:00" }
+            ] }
+            """;
+        try {
+            mockMvc.perform(post("/todos/batch")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[1].status").value("CREATED"));
+        }
+        finally {
+            database.runCommand(new Document("collMod", "todos").append("validator", new Document()));
+        }
+    }
+
+    @Test
+    public void executeBatchShouldReturnStatus401WhenAuthTokenIsNotProvided() throws Exception {
+        mockMvc.perform(post("/todos/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{ \"operations\": [] }"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void reconcileTodosSummaryFromConnectedUserShouldReturnSummaryAndStatus200() throws Exception {
+        mockMvc.perform(post("/todos/summary/reconcile")
+            .header("Authorization", "Bearer " + token)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.completedTodosPercentage").exists())
+            .andExpect(jsonPath("$.overdueTodos").exists());
+    }
+
+    @Test
+    public void reconcileTodosSummaryFromConnectedUserShouldReturnStatus401WhenAuthTokenIsNotProvided() throws Exception {
+        mockMvc.perform(post("/todos/summary/reconcile")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isUnauthorized());
+    }
+
     @Test
     @Order(6)
     public void createTodoShouldReturnStatus201WhenDataIsValid() throws Exception {
@@ -376,6 +628,16 @@ public class TodoControllerIT {
             .andExpect(status().isOk());
     }
 
+    @Test
+    @Order(8)
+    public void findTodoImageShouldReturnImageAndStatus200WhenTodoHasImage() throws Exception {
+        mockMvc.perform(get("/todos/" + todoId + "/image")
+            .header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", MediaType.IMAGE_PNG_VALUE))
+            .andExpect(content().bytes("image".getBytes()));
+    }
+
     @Test
     public void updateTodoShouldReturnStatus401WhenAuthTokenIsNotProvided() throws Exception {
         mockMvc.perform(multipart("/todos/" + todoId)
@@ -526,7 +788,7 @@ public class TodoControllerIT {
     }
 
     @Test
-    @Order(8)
+    @Order(9)
     public void deleteShouldReturnStatus204WhenIdExists() throws Exception {
         mockMvc.perform(delete("/todos/" + todoId)
             .header("Authorization", "Bearer " + token)
@@ -536,7 +798,7 @@ public class TodoControllerIT {
     }
 
     @Test
-    @Order(9)
+    @Order(10)
     public void deleteShouldReturnStatus401WhenAuthTokenIsNotProvided() throws Exception {
         mockMvc.perform(delete("/todos/" + "rehuehuthuwhhiqw")
             .contentType(MediaType.APPLICATION_JSON)
@@ -545,7 +807,7 @@ public class TodoControllerIT {
     }
 
     @Test
-    @Order(9)
+    @Order(10)
     public void deleteShouldReturnStatus404WhenIdDoesNotExist() throws Exception {
         mockMvc.perform(delete("/todos/" + "rehuehuthuwhhiqw")
             .header("Authorization", "Bearer " + token)
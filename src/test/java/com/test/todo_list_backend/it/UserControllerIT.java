@@ -1,5 +1,6 @@
 package com.test.todo_list_backend.it;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -23,6 +24,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -42,12 +44,15 @@ import com.test.todo_list_backend.models.dtos.LoginRequestDTO;
 import com.test.todo_list_backend.models.dtos.RegistrationRequestDTO;
 import com.test.todo_list_backend.models.dtos.UpdatePasswordRequestDTO;
 import com.test.todo_list_backend.models.dtos.UpdateUserInfosRequestDTO;
+import com.test.todo_list_backend.models.entities.ActivationCode;
+import com.test.todo_list_backend.utils.SendGridStubConfig;
 import com.test.todo_list_backend.utils.TokenUtils;
 
 @AutoConfigureMockMvc
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
 @TestMethodOrder(OrderAnnotation.class)
 @Testcontainers
+@Import(SendGridStubConfig.class)
 public class UserControllerIT {
 
     @Autowired
@@ -76,6 +81,7 @@ public class UserControllerIT {
     static void setProperties(DynamicPropertyRegistry registry) {
         registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
         registry.add("spring.data.mongodb.database", () -> "todo-list-app");
+        registry.add("mongo.transactions.enabled", () -> "true");
     }
 
     @BeforeAll
@@ -106,7 +112,7 @@ public class UserControllerIT {
         MongoCollection<Document> activationCodes = database.getCollection("activation_codes");
         Document activationCode = new Document(Map.of(
             "user", toBeUpdatedUser,
-            "code", "778371726",
+            "code", ActivationCode.hash("778371726"),
             "createdAt", Instant.now(),
             "expiresAt", Instant.now().plusSeconds(3600L),
             "isValidated", false,
@@ -114,7 +120,7 @@ public class UserControllerIT {
         ));
         Document expiredActivationCode = new Document(Map.of(
             "user", toBeUpdatedUser,
-            "code", "12345678",
+            "code", ActivationCode.hash("12345678"),
             "createdAt", Instant.now(),
             "expiresAt", Instant.now().minusSeconds(3600L),
             "isValidated", false,
@@ -163,6 +169,9 @@ public class UserControllerIT {
             .content(objectMapper.writeValueAsString(registrationRequest))
             .accept(MediaType.APPLICATION_JSON))
             .andExpect(status().isCreated());
+
+        assertThat(database.getCollection("email_outbox")
+            .countDocuments(new Document("emailTo", registrationRequest.getEmail()))).isEqualTo(1);
     }
 
     @Test
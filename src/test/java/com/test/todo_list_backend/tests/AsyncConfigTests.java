@@ -0,0 +1,41 @@
+package com.test.todo_list_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.test.todo_list_backend.config.AsyncConfig;
+
+public class AsyncConfigTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+        .withUserConfiguration(AsyncConfig.class)
+        .withPropertyValues(
+            "thumbnails.executor.pool-size=2",
+            "thumbnails.executor.queue-capacity=100",
+            "email.executor.pool-size=4",
+            "email.outbox.batch-size=50",
+            "password-hashing.executor.pool-size=2",
+            "password-hashing.executor.queue-capacity=100");
+
+    @Test
+    public void applicationTaskExecutorShouldBePooledWhenVirtualThreadsAreDisabled() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=false").run(context -> {
+            assertThat(context).getBean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME).isInstanceOf(ThreadPoolTaskExecutor.class);
+            assertThat(context.getBean("taskExecutor")).isSameAs(context.getBean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME));
+        });
+    }
+
+    @Test
+    public void applicationTaskExecutorShouldUseVirtualThreadsWhenVirtualThreadsAreEnabled() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context ->
+            assertThat(context).getBean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME).isInstanceOf(SimpleAsyncTaskExecutor.class));
+    }
+
+}
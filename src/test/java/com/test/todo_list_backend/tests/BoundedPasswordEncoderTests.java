@@ -0,0 +1,81 @@
+package com.test.todo_list_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.test.todo_list_backend.security.BoundedPasswordEncoder;
+import com.test.todo_list_backend.services.exceptions.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BoundedPasswordEncoderTests {
+
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    public void setUp() {
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(1);
+        this.executor.setMaxPoolSize(1);
+        this.executor.setQueueCapacity(1);
+        this.executor.initialize();
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), executor, Duration.ofSeconds(2), meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.executor.shutdown();
+    }
+
+    @Test
+    public void encodeAndMatchesShouldRunOnExecutorAndRecordLatency() {
+        String encoded = passwordEncoder.encode("12345Az@");
+
+        assertThat(passwordEncoder.matches("12345Az@", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("wrong", encoded)).isFalse();
+        assertThat(meterRegistry.timer("password.hashing", "operation", "encode").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("password.hashing", "operation", "matches").count()).isEqualTo(2);
+    }
+
+    @Test
+    public void encodeShouldThrowServiceOverloadedExceptionWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release));
+        executor.execute(() -> await(release));
+
+        try {
+            assertThatThrownBy(() -> passwordEncoder.encode("12345Az@"))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .extracting(e -> ((ServiceOverloadedException) e).getRetryAfter())
+                .isEqualTo(Duration.ofSeconds(2));
+            assertThat(meterRegistry.counter("password.hashing.rejected").count()).isEqualTo(1);
+            assertThat(meterRegistry.get("password.hashing.queue.size").gauge().value()).isEqualTo(1);
+        }
+        finally {
+            release.countDown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
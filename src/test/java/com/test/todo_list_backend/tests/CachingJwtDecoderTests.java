@@ -0,0 +1,138 @@
+package com.test.todo_list_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import com.test.todo_list_backend.security.CachingJwtDecoder;
+import com.test.todo_list_backend.security.ReactiveSecurityConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CachingJwtDecoderTests {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private JwtDecoder delegate;
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    public void setUp() {
+        this.delegate = mock(JwtDecoder.class);
+        this.clock = new MutableClock(NOW);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.decoder = new CachingJwtDecoder(delegate, 100, clock, meterRegistry);
+    }
+
+    @Test
+    public void decodeShouldVerifyTokenOnlyOnceWhenTokenIsRepeated() {
+        Jwt jwt = jwt("token", NOW.plusSeconds(60));
+        when(delegate.decode("token")).thenReturn(jwt);
+
+        assertThat(decoder.decode("token")).isSameAs(jwt);
+        assertThat(decoder.decode("token")).isSameAs(jwt);
+
+        verify(delegate, times(1)).decode("token");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "verifiedJwts").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void reactiveJwtDecoderShouldVerifyTokenOffTheSubscribingThread() {
+        Jwt jwt = jwt("token", NOW.plusSeconds(60));
+        AtomicReference<String> decodingThread = new AtomicReference<>();
+        when(delegate.decode("token")).thenAnswer(invocation -> {
+            decodingThread.set(Thread.currentThread().getName());
+            return jwt;
+        });
+
+        Jwt decoded = new ReactiveSecurityConfig().reactiveJwtDecoder(decoder).decode("token").block();
+
+        assertThat(decoded).isSameAs(jwt);
+        assertThat(decodingThread.get()).startsWith("boundedElastic");
+    }
+
+    @Test
+    public void decodeShouldNotAcceptCachedTokenWhenTokenHasExpired() {
+        when(delegate.decode("token"))
+            .thenReturn(jwt("token", NOW.plusSeconds(60)))
+            .thenThrow(new BadJwtException("Jwt expired"));
+        decoder.decode("token");
+
+        clock.instant = NOW.plusSeconds(60);
+
+        assertThatThrownBy(() -> decoder.decode("token")).isInstanceOf(BadJwtException.class);
+        verify(delegate, times(2)).decode("token");
+    }
+
+    @Test
+    public void decodeShouldNotCacheTokenWhenDelegateAcceptsItPastExpiry() {
+        Jwt jwt = jwt("token", NOW.minusSeconds(10));
+        when(delegate.decode("token")).thenReturn(jwt);
+
+        decoder.decode("token");
+        decoder.decode("token");
+
+        verify(delegate, times(2)).decode("token");
+    }
+
+    @Test
+    public void decodeShouldPropagateExceptionAndNotCacheWhenTokenIsInvalid() {
+        when(delegate.decode("bad")).thenThrow(new BadJwtException("Invalid signature"));
+
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+        verify(delegate, times(2)).decode("bad");
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+            .header("alg", "RS256")
+            .subject("user@gmail.com")
+            .issuedAt(expiresAt.minusSeconds(3600))
+            .expiresAt(expiresAt)
+            .build();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.test.todo_list_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.test.todo_list_backend.migrations.DataMigration;
+import com.test.todo_list_backend.migrations.DataMigrationRunner;
+
+@ExtendWith(MockitoExtension.class)
+public class DataMigrationRunnerTests {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    public void runAllShouldRetryAFailedMigrationUntilItSucceeds() {
+        DataMigration migration = migration("required", true);
+        when(migration.migrateBatch(anyInt()))
+            .thenThrow(new IllegalStateException("connection reset"))
+            .thenReturn(5, 0);
+        DataMigrationRunner runner = this.runner(List.of(migration));
+
+        runner.runAll();
+
+        assertThat(runner.isCompleted()).isTrue();
+        verify(migration, times(3)).migrateBatch(anyInt());
+        verify(mongoTemplate).save(any(Document.class), eq("data_migrations"));
+    }
+
+    @Test
+    public void runAllShouldReportCompletedOnceRequiredMigrationsFinishEvenIfOptionalOnesStillRun() {
+        DataMigration optional = migration("optional", false);
+        DataMigration required = migration("required", true);
+        DataMigrationRunner runner = this.runner(List.of(optional, required));
+        AtomicBoolean completedWhileOptionalRan = new AtomicBoolean();
+        when(required.migrateBatch(anyInt())).thenAnswer(invocation -> {
+            assertThat(runner.isCompleted()).isFalse();
+            return 0;
+        });
+        when(optional.migrateBatch(anyInt())).thenAnswer(invocation -> {
+            completedWhileOptionalRan.set(runner.isCompleted());
+            return 0;
+        });
+
+        runner.runAll();
+
+        assertThat(completedWhileOptionalRan).isTrue();
+    }
+
+    @Test
+    public void onApplicationReadyShouldReportCompletedWhenNoMigrationIsRequired() {
+        DataMigrationRunner runner = this.runner(List.of());
+
+        runner.onApplicationReady();
+
+        assertThat(runner.isCompleted()).isTrue();
+    }
+
+    private DataMigrationRunner runner(List<DataMigration> migrations) {
+        DataMigrationRunner runner = new DataMigrationRunner(migrations, mongoTemplate);
+        ReflectionTestUtils.setField(runner, "batchSize", 10);
+        ReflectionTestUtils.setField(runner, "initialBackoff", Duration.ofMillis(1));
+        ReflectionTestUtils.setField(runner, "maxBackoff", Duration.ofMillis(2));
+        return runner;
+    }
+
+    private DataMigration migration(String id, boolean required) {
+        DataMigration migration = mock(DataMigration.class);
+        when(migration.getId()).thenReturn(id);
+        when(migration.isRequired()).thenReturn(required);
+        return migration;
+    }
+
+}
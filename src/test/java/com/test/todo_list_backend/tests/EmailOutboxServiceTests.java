@@ -0,0 +1,124 @@
+package com.test.todo_list_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sendgrid.helpers.mail.Mail;
+import com.test.todo_list_backend.models.entities.EmailOutboxMessage;
+import com.test.todo_list_backend.models.enums.EmailOutboxStatus;
+import com.test.todo_list_backend.repositories.EmailOutboxRepository;
+import com.test.todo_list_backend.services.EmailService;
+import com.test.todo_list_backend.services.exceptions.EmailException;
+import com.test.todo_list_backend.services.impl.EmailOutboxServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class EmailOutboxServiceTests {
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+    @Mock
+    private EmailService emailService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxServiceImpl emailOutboxService;
+    private EmailOutboxMessage message;
+    private Mail mail;
+
+    @BeforeEach
+    public void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.emailOutboxService = new EmailOutboxServiceImpl(emailOutboxRepository, emailService, Runnable::run, meterRegistry);
+        ReflectionTestUtils.setField(emailOutboxService, "batchSize", 10);
+        ReflectionTestUtils.setField(emailOutboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(emailOutboxService, "initialBackoff", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(emailOutboxService, "maxBackoff", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(emailOutboxService, "lease", Duration.ofMinutes(5));
+        this.message = EmailOutboxMessage.builder()
+            .id("id")
+            .emailTo("email@gmail.com")
+            .fullName("Full Name")
+            .code("123456")
+            .subject("subject")
+            .status(EmailOutboxStatus.PENDING)
+            .attempts(1)
+            .nextAttemptAt(LocalDateTime.now())
+            .createdAt(LocalDateTime.now())
+            .build();
+        this.mail = new Mail();
+    }
+
+    @Test
+    public void enqueueConfirmationEmailShouldSavePendingMessage() {
+        emailOutboxService.enqueueConfirmationEmail("email@gmail.com", "Full Name", "123456", "subject");
+
+        ArgumentCaptor<EmailOutboxMessage> captor = ArgumentCaptor.forClass(EmailOutboxMessage.class);
+        verify(emailOutboxRepository).save(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(captor.getValue().getAttempts()).isZero();
+        assertThat(captor.getValue().getNextAttemptAt()).isNotNull();
+        verify(emailService, never()).sendEmail(any());
+    }
+
+    @Test
+    public void dispatchPendingShouldMarkMessageAsSentWhenDeliverySucceeds() {
+        when(emailOutboxRepository.claimNext(any(), any())).thenReturn(message, (EmailOutboxMessage) null);
+        when(emailService.createEmailTemplate("email@gmail.com", "Full Name", "123456", "subject")).thenReturn(mail);
+
+        emailOutboxService.dispatchPending();
+
+        verify(emailService).sendEmail(mail);
+        verify(emailOutboxRepository).save(message);
+        assertThat(message.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(message.getSentAt()).isNotNull();
+        assertThat(message.getCode()).isNull();
+        assertThat(meterRegistry.counter("email.outbox.deliveries", "outcome", "sent").count()).isEqualTo(1);
+    }
+
+    @Test
+    public void dispatchPendingShouldRescheduleMessageWithBackoffWhenDeliveryFails() {
+        message.setAttempts(2);
+        when(emailOutboxRepository.claimNext(any(), any())).thenReturn(message, (EmailOutboxMessage) null);
+        when(emailService.createEmailTemplate(any(), any(), any(), any())).thenReturn(mail);
+        doThrow(new EmailException("unavailable")).when(emailService).sendEmail(mail);
+
+        emailOutboxService.dispatchPending();
+
+        assertThat(message.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(message.getLastError()).isEqualTo("unavailable");
+        assertThat(message.getCode()).isEqualTo("123456");
+        assertThat(message.getNextAttemptAt()).isBetween(LocalDateTime.now().plusSeconds(55), LocalDateTime.now().plusSeconds(61));
+        assertThat(meterRegistry.counter("email.outbox.deliveries", "outcome", "retried").count()).isEqualTo(1);
+    }
+
+    @Test
+    public void dispatchPendingShouldMarkMessageAsDeadWhenMaxAttemptsIsReached() {
+        message.setAttempts(3);
+        when(emailOutboxRepository.claimNext(any(), any())).thenReturn(message, (EmailOutboxMessage) null);
+        when(emailService.createEmailTemplate(any(), any(), any(), any())).thenReturn(mail);
+        doThrow(new EmailException("unavailable")).when(emailService).sendEmail(mail);
+
+        emailOutboxService.dispatchPending();
+
+        verify(emailOutboxRepository).save(message);
+        assertThat(message.getStatus()).isEqualTo(EmailOutboxStatus.DEAD);
+        assertThat(meterRegistry.counter("email.outbox.deliveries", "outcome", "dead").count()).isEqualTo(1);
+    }
+
+}
@@ -3,7 +3,6 @@ package com.test.todo_list_backend.tests;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -15,13 +14,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import com.sendgrid.Request;
 import com.sendgrid.Response;
 import com.sendgrid.SendGrid;
 import com.sendgrid.helpers.mail.Mail;
+import com.test.todo_list_backend.services.EmailTemplateService;
 import com.test.todo_list_backend.services.exceptions.EmailException;
 import com.test.todo_list_backend.services.impl.EmailServiceImpl;
 
@@ -33,7 +31,7 @@ public class EmailServiceTests {
     @Mock
     private SendGrid sendGrid;
     @Mock
-    private SpringTemplateEngine springTemplateEngine;
+    private EmailTemplateService emailTemplateService;
 
     @Test
     public void sendEmailShouldThrowNoException() throws IOException {
@@ -68,13 +66,7 @@ public class EmailServiceTests {
         String code = "code";
         String subject = "subject";
 
-        Map<String,Object> variables = Map.of(
-            "username", username,
-            "code", code
-        );
-        Context context = new Context();
-        context.setVariables(variables);
-        when(springTemplateEngine.process(eq("email_confirmation"), any(Context.class))).thenReturn("content");
+        when(emailTemplateService.render("email_confirmation", Map.of("username", username, "code", code))).thenReturn("content");
         Mail mail = emailService.createEmailTemplate(emailTo, username, code, subject);
         assertThat(mail).isNotNull();
         assertThat(mail.getFrom().getEmail()).isEqualTo("ahnertfernando499@gmail.com");
@@ -0,0 +1,53 @@
+package com.test.todo_list_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import com.test.todo_list_backend.services.impl.EmailTemplateServiceImpl;
+
+public class EmailTemplateServiceTests {
+
+    private SpringTemplateEngine springTemplateEngine;
+    private EmailTemplateServiceImpl emailTemplateService;
+
+    @BeforeEach
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        this.springTemplateEngine = new SpringTemplateEngine();
+        this.springTemplateEngine.setTemplateResolver(resolver);
+        this.emailTemplateService = new EmailTemplateServiceImpl(springTemplateEngine);
+    }
+
+    @Test
+    public void renderShouldMatchThymeleafOutputWhenTemplateIsCompiled() {
+        Map<String, String> variables = Map.of("username", "João & <Maria>", "code", "123456");
+        Context context = new Context();
+        context.setVariables(Map.copyOf(variables));
+
+        String rendered = emailTemplateService.render("email_confirmation", variables);
+
+        assertThat(rendered).isEqualTo(springTemplateEngine.process("email_confirmation", context));
+        assertThat(rendered).contains("Olá João &amp; &lt;Maria&gt;,").contains("123456");
+    }
+
+    @Test
+    public void reloadShouldReturnNewVersion() {
+        long version = emailTemplateService.reload("email_confirmation");
+
+        assertThat(emailTemplateService.reload("email_confirmation")).isGreaterThan(version);
+        assertThat(emailTemplateService.render("email_confirmation", Map.of("username", "name", "code", "code"))).contains("Olá name,");
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.test.todo_list_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+
+import com.test.todo_list_backend.services.exceptions.ResourceNotFoundException;
+import com.test.todo_list_backend.services.impl.FileSystemBlobStorageService;
+
+public class FileSystemBlobStorageServiceTests {
+
+    @TempDir
+    private Path rootDirectory;
+
+    private FileSystemBlobStorageService blobStorageService;
+
+    @BeforeEach
+    public void setup() {
+        this.blobStorageService = new FileSystemBlobStorageService(rootDirectory.toString());
+    }
+
+    @Test
+    public void storeShouldPersistContentThatLoadReturns() throws IOException {
+        String blobId = blobStorageService.store(new ByteArrayInputStream("image".getBytes()), "image.png", "image/png");
+
+        Resource resource = blobStorageService.load(blobId);
+
+        try (InputStream content = resource.getInputStream()) {
+            assertThat(content.readAllBytes()).isEqualTo("image".getBytes());
+        }
+    }
+
+    @Test
+    public void loadShouldThrowResourceNotFoundExceptionWhenBlobWasDeleted() {
+        String blobId = blobStorageService.store(new ByteArrayInputStream("image".getBytes()), "image.png", "image/png");
+
+        blobStorageService.delete(blobId);
+
+        assertThatThrownBy(() -> blobStorageService.load(blobId)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    public void loadShouldThrowResourceNotFoundExceptionWhenBlobIdEscapesRootDirectory() {
+        assertThatThrownBy(() -> blobStorageService.load("../outside")).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+}
@@ -0,0 +1,178 @@
+package com.test.todo_list_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.test.todo_list_backend.models.dtos.TodoImageResponseDTO;
+import com.test.todo_list_backend.models.entities.StoredImage;
+import com.test.todo_list_backend.repositories.StoredImageRepository;
+import com.test.todo_list_backend.services.BlobStorageService;
+import com.test.todo_list_backend.services.ThumbnailService;
+import com.test.todo_list_backend.services.exceptions.DefaultValidationError;
+import com.test.todo_list_backend.services.exceptions.ResourceNotFoundException;
+import com.test.todo_list_backend.services.impl.ImageServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+public class ImageServiceTests {
+
+    private static final String IMAGE_HASH = "18b3d1d69b126a2dbf89e7e94063c7d221fd157f548e12af1a5b2c2909290e6e";
+
+    @InjectMocks
+    private ImageServiceImpl imageService;
+    @Mock
+    private StoredImageRepository storedImageRepository;
+    @Mock
+    private BlobStorageService blobStorageService;
+    @Mock
+    private ThumbnailService thumbnailService;
+
+    private StoredImage image;
+    private ByteArrayResource source;
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(imageService, "gcBatchSize", 2);
+        this.source = new ByteArrayResource("image".getBytes());
+        this.image = StoredImage.builder()
+            .id(IMAGE_HASH)
+            .blobId("blobId")
+            .contentType("image/png")
+            .size(5)
+            .refCount(1)
+            .build();
+    }
+
+    @Test
+    public void storeShouldOnlyIncrementReferencesWhenContentIsAlreadyStored() {
+        when(storedImageRepository.incrementReferences(IMAGE_HASH, 1)).thenReturn(image);
+
+        String imageId = imageService.store(source, "image.png", "image/png");
+
+        assertThat(imageId).isEqualTo(IMAGE_HASH);
+        verify(blobStorageService, never()).store(any(), anyString(), anyString());
+        verify(thumbnailService, never()).generateThumbnails(anyString());
+    }
+
+    @Test
+    public void storeShouldWriteBlobAndGenerateThumbnailsWhenContentIsNew() {
+        when(storedImageRepository.incrementReferences(IMAGE_HASH, 1)).thenReturn(null);
+        when(blobStorageService.store(any(), anyString(), anyString())).thenReturn("blobId");
+        when(storedImageRepository.insertOrIncrementReferences(any(StoredImage.class))).thenReturn(image);
+
+        String imageId = imageService.store(source, "image.png", "image/png");
+
+        assertThat(imageId).isEqualTo(IMAGE_HASH);
+        verify(thumbnailService).generateThumbnails(IMAGE_HASH);
+        verify(blobStorageService, never()).delete(anyString());
+    }
+
+    @Test
+    public void storeShouldNotShareImageWhenSameContentHasDifferentContentType() {
+        when(storedImageRepository.incrementReferences(anyString(), eq(1L))).thenReturn(image);
+
+        String png = imageService.store(source, "image.png", "image/png");
+        String jpeg = imageService.store(source, "image.jpg", "image/jpeg");
+
+        assertThat(png).isEqualTo(IMAGE_HASH);
+        assertThat(jpeg).isNotEqualTo(png);
+    }
+
+    @Test
+    public void storeShouldDeleteOwnBlobWhenConcurrentUploadStoredTheSameContent() {
+        when(storedImageRepository.incrementReferences(IMAGE_HASH, 1)).thenReturn(null);
+        when(blobStorageService.store(any(), anyString(), anyString())).thenReturn("otherBlobId");
+        when(storedImageRepository.insertOrIncrementReferences(any(StoredImage.class))).thenReturn(image);
+
+        imageService.store(source, "image.png", "image/png");
+
+        verify(blobStorageService).delete("otherBlobId");
+        verify(thumbnailService, never()).generateThumbnails(anyString());
+    }
+
+    @Test
+    public void releaseShouldDecrementReferences() {
+        when(storedImageRepository.incrementReferences(IMAGE_HASH, -1)).thenReturn(image);
+
+        imageService.release(IMAGE_HASH);
+
+        verify(storedImageRepository).incrementReferences(IMAGE_HASH, -1);
+    }
+
+    @Test
+    public void loadShouldReturnThumbnailWhenSizeWasGenerated() {
+        image.setThumbnailIds(Map.of("64", "thumbnailId"));
+        image.setThumbnailContentType("image/jpeg");
+        when(storedImageRepository.findById(IMAGE_HASH)).thenReturn(Optional.of(image));
+
+        TodoImageResponseDTO response = imageService.load(IMAGE_HASH, 64);
+
+        assertThat(response.getImageId()).isEqualTo(IMAGE_HASH + "-64");
+        assertThat(response.getContentType()).isEqualTo("image/jpeg");
+        verify(blobStorageService).load("thumbnailId");
+    }
+
+    @Test
+    public void loadShouldReturnOriginalWhenThumbnailWasNotGenerated() {
+        when(storedImageRepository.findById(IMAGE_HASH)).thenReturn(Optional.of(image));
+
+        TodoImageResponseDTO response = imageService.load(IMAGE_HASH, 256);
+
+        assertThat(response.getImageId()).isEqualTo(IMAGE_HASH);
+        verify(blobStorageService).load("blobId");
+    }
+
+    @Test
+    public void loadShouldThrowDefaultValidationErrorWhenSizeIsNotSupported() {
+        when(storedImageRepository.findById(IMAGE_HASH)).thenReturn(Optional.of(image));
+
+        assertThatThrownBy(() -> imageService.load(IMAGE_HASH, 100)).isInstanceOf(DefaultValidationError.class);
+    }
+
+    @Test
+    public void loadShouldThrowResourceNotFoundExceptionWhenImageDoesNotExist() {
+        when(storedImageRepository.findById(IMAGE_HASH)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> imageService.load(IMAGE_HASH, null)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    public void collectOrphansShouldDeleteBlobsOfImagesStillOrphanedInBatches() {
+        StoredImage orphan = StoredImage.builder().id("orphan").blobId("orphanBlobId").thumbnailIds(Map.of("64", "orphanThumbnailId")).build();
+        StoredImage revived = StoredImage.builder().id("revived").blobId("revivedBlobId").build();
+        StoredImage lastOrphan = StoredImage.builder().id("lastOrphan").blobId("lastOrphanBlobId").build();
+        when(storedImageRepository.findByRefCountLessThanEqual(0, PageRequest.of(0, 2)))
+            .thenReturn(List.of(orphan, revived))
+            .thenReturn(List.of(lastOrphan));
+        when(storedImageRepository.deleteIfOrphaned("orphan")).thenReturn(true);
+        when(storedImageRepository.deleteIfOrphaned("revived")).thenReturn(false);
+        when(storedImageRepository.deleteIfOrphaned("lastOrphan")).thenReturn(true);
+
+        imageService.collectOrphans();
+
+        verify(blobStorageService).delete("orphanBlobId");
+        verify(blobStorageService).delete("orphanThumbnailId");
+        verify(blobStorageService).delete("lastOrphanBlobId");
+        verify(blobStorageService, never()).delete("revivedBlobId");
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.test.todo_list_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.test.todo_list_backend.security.JwtConfig;
+import com.test.todo_list_backend.security.JwtSigningKeys;
+import com.test.todo_list_backend.security.SigningKeyJwtEncoder;
+
+public class JwtSigningKeysTests {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "RS256", "ES256", "EdDSA" })
+    public void encodeShouldSignWithConfiguredKeyAndDecodeShouldVerifyWhenAlgorithmIsSupported(String algorithm) throws JOSEException {
+        JWK key = generateKey(algorithm, "key-1");
+        JwtSigningKeys signingKeys = JwtSigningKeys.of(new JWKSet(key), "key-1");
+
+        Jwt encoded = new SigningKeyJwtEncoder(signingKeys).encode(JwtEncoderParameters.from(claims()));
+        Jwt decoded = JwtConfig.verifyingDecoder(signingKeys).decode(encoded.getTokenValue());
+
+        assertThat(encoded.getHeaders()).containsEntry("alg", algorithm).containsEntry("kid", "key-1");
+        assertThat(decoded.getSubject()).isEqualTo("user@gmail.com");
+    }
+
+    @Test
+    public void decodeShouldAcceptTokensSignedWithPreviousKeyWhenSigningKeyIsRotated() throws JOSEException {
+        JWK oldKey = generateKey("RS256", "old");
+        JWK newKey = generateKey("ES256", "new");
+        JwtSigningKeys beforeRotation = JwtSigningKeys.of(new JWKSet(oldKey), "old");
+        JwtSigningKeys afterRotation = JwtSigningKeys.of(new JWKSet(List.of(newKey, oldKey)), "new");
+        String oldToken = new SigningKeyJwtEncoder(beforeRotation).encode(JwtEncoderParameters.from(claims())).getTokenValue();
+
+        Jwt newToken = new SigningKeyJwtEncoder(afterRotation).encode(JwtEncoderParameters.from(claims()));
+
+        assertThat(newToken.getHeaders()).containsEntry("kid", "new").containsEntry("alg", "ES256");
+        assertThat(JwtConfig.verifyingDecoder(afterRotation).decode(oldToken).getSubject()).isEqualTo("user@gmail.com");
+        assertThat(JwtConfig.verifyingDecoder(afterRotation).decode(newToken.getTokenValue()).getSubject()).isEqualTo("user@gmail.com");
+    }
+
+    @Test
+    public void decodeShouldThrowJwtExceptionWhenKeyWasRemovedFromSet() throws JOSEException {
+        JwtSigningKeys retired = JwtSigningKeys.of(new JWKSet(generateKey("EdDSA", "retired")), "retired");
+        JwtSigningKeys current = JwtSigningKeys.of(new JWKSet(generateKey("EdDSA", "current")), "current");
+        String token = new SigningKeyJwtEncoder(retired).encode(JwtEncoderParameters.from(claims())).getTokenValue();
+
+        assertThatThrownBy(() -> JwtConfig.verifyingDecoder(current).decode(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    public void ofShouldThrowIllegalStateExceptionWhenSigningKeyIdIsMissingForSeveralKeys() throws JOSEException {
+        JWKSet jwkSet = new JWKSet(List.of(generateKey("ES256", "a"), generateKey("ES256", "b")));
+
+        assertThatThrownBy(() -> JwtSigningKeys.of(jwkSet, "")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> JwtSigningKeys.of(jwkSet, "c")).isInstanceOf(IllegalStateException.class);
+        assertThat(JwtSigningKeys.of(jwkSet, "b").getSigningAlgorithm()).isEqualTo(JWSAlgorithm.ES256);
+    }
+
+    private static JWK generateKey(String algorithm, String keyId) throws JOSEException {
+        return switch (algorithm) {
+            case "RS256" -> new RSAKeyGenerator(2048).keyID(keyId).generate();
+            case "ES256" -> new ECKeyGenerator(Curve.P_256).keyID(keyId).generate();
+            case "EdDSA" -> new OctetKeyPairGenerator(Curve.Ed25519).keyID(keyId).generate();
+            default -> throw new IllegalArgumentException(algorithm);
+        };
+    }
+
+    private static JwtClaimsSet claims() {
+        return JwtClaimsSet.builder()
+            .issuer("todo-list-app-auth")
+            .subject("user@gmail.com")
+            .issuedAt(Instant.now())
+            .expiresAt(Instant.now().plusSeconds(60))
+            .build();
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.test.todo_list_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.test.todo_list_backend.factories.TodoFactory;
+import com.test.todo_list_backend.models.entities.Todo;
+import com.test.todo_list_backend.models.entities.TodoStats;
+import com.test.todo_list_backend.repositories.ReactiveTodoRepository;
+import com.test.todo_list_backend.services.ImageService;
+import com.test.todo_list_backend.services.TodoStatsService;
+import com.test.todo_list_backend.services.exceptions.DefaultValidationError;
+import com.test.todo_list_backend.services.exceptions.ResourceNotFoundException;
+import com.test.todo_list_backend.services.impl.ReactiveTodoServiceImpl;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveTodoServiceTests {
+
+    @InjectMocks
+    private ReactiveTodoServiceImpl reactiveTodoService;
+    @Mock
+    private ReactiveTodoRepository reactiveTodoRepository;
+    @Mock
+    private ImageService imageService;
+    @Mock
+    private TodoStatsService todoStatsService;
+
+    private Todo todo;
+    private String userId;
+
+    @BeforeEach
+    public void setUp() {
+        this.todo = TodoFactory.create();
+        this.userId = todo.getUserId();
+    }
+
+    @Test
+    public void findNotCompletedTodosShouldStreamListItems() {
+        when(reactiveTodoRepository.findListItemsAfter(eq(userId), any(), isNull(), eq(10))).thenReturn(Flux.just(todo, todo));
+
+        StepVerifier.create(reactiveTodoService.findNotCompletedTodos(userId, 10))
+            .assertNext(item -> assertThat(item.getTitle()).isEqualTo("title"))
+            .expectNextCount(1)
+            .verifyComplete();
+    }
+
+    @Test
+    public void findNotCompletedTodosShouldFailWhenLimitIsOutOfRange() {
+        StepVerifier.create(reactiveTodoService.findNotCompletedTodos(userId, 0))
+            .verifyError(DefaultValidationError.class);
+        verifyNoInteractions(reactiveTodoRepository);
+    }
+
+    @Test
+    public void findTodoByIdShouldFailWithResourceNotFoundExceptionWhenTodoIsNotOwned() {
+        when(reactiveTodoRepository.findByIdAndUserId("id", userId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(reactiveTodoService.findTodoById(userId, "id"))
+            .verifyError(ResourceNotFoundException.class);
+    }
+
+    @Test
+    public void createTodoShouldFailWhenImageIsMissing() {
+        StepVerifier.create(reactiveTodoService.createTodo(userId, TodoFactory.createRequest(), null))
+            .verifyError(DefaultValidationError.class);
+        verifyNoInteractions(reactiveTodoRepository, imageService, todoStatsService);
+    }
+
+    @Test
+    public void deleteTodoShouldRecordStatsAndReleaseImage() {
+        when(reactiveTodoRepository.findByIdAndUserId("id", userId)).thenReturn(Mono.just(todo));
+        when(reactiveTodoRepository.delete(todo)).thenReturn(Mono.empty());
+
+        StepVerifier.create(reactiveTodoService.deleteTodo(userId, "id"))
+            .verifyComplete();
+
+        verify(todoStatsService).recordDeleted(todo);
+        verify(imageService).release("imageId");
+    }
+
+    @Test
+    public void getTodosSummaryShouldConvertStats() {
+        TodoStats stats = TodoStats.builder()
+            .userId(userId)
+            .statusCounts(new HashMap<>(Map.of("NOT_STARTED", 1L, "COMPLETED", 1L)))
+            .priorityCounts(new HashMap<>())
+            .openTodosByExpiryDate(new HashMap<>(Map.of("2020-01-01", 1L)))
+            .build();
+        when(todoStatsService.getStats(userId)).thenReturn(stats);
+
+        StepVerifier.create(reactiveTodoService.getTodosSummary(userId))
+            .assertNext(summary -> {
+                assertThat(summary.getCompletedTodosPercentage()).isEqualByComparingTo(new BigDecimal("0.50"));
+                assertThat(summary.getOverdueTodos()).isEqualTo(1L);
+            })
+            .verifyComplete();
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.test.todo_list_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+
+import com.test.todo_list_backend.models.entities.StoredImage;
+import com.test.todo_list_backend.repositories.StoredImageRepository;
+import com.test.todo_list_backend.services.BlobStorageService;
+import com.test.todo_list_backend.services.impl.ThumbnailServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+public class ThumbnailServiceTests {
+
+    @InjectMocks
+    private ThumbnailServiceImpl thumbnailService;
+    @Mock
+    private BlobStorageService blobStorageService;
+    @Mock
+    private StoredImageRepository storedImageRepository;
+
+    private StoredImage image;
+
+    @BeforeEach
+    public void setup() {
+        this.image = StoredImage.builder()
+            .id("imageId")
+            .blobId("blobId")
+            .contentType("image/png")
+            .refCount(1)
+            .build();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void generateThumbnailsShouldStoreEverySizeSmallerThanTheOriginal() throws IOException {
+        when(storedImageRepository.findById("imageId")).thenReturn(Optional.of(image));
+        when(blobStorageService.load("blobId")).thenReturn(new ByteArrayResource(createPng(2000, 1000)));
+        when(blobStorageService.store(any(), anyString(), eq("image/jpeg"))).thenReturn("thumbnailId");
+        when(storedImageRepository.setThumbnails(eq("imageId"), eq("blobId"), anyMap(), eq("image/jpeg"))).thenReturn(true);
+
+        thumbnailService.generateThumbnails("imageId");
+
+        ArgumentCaptor<InputStream> contents = ArgumentCaptor.forClass(InputStream.class);
+        verify(blobStorageService, times(3)).store(contents.capture(), anyString(), eq("image/jpeg"));
+        BufferedImage small = ImageIO.read(contents.getAllValues().get(0));
+        assertThat(small.getWidth()).isEqualTo(64);
+        assertThat(small.getHeight()).isEqualTo(32);
+        ArgumentCaptor<Map<String, String>> thumbnailIds = ArgumentCaptor.forClass(Map.class);
+        verify(storedImageRepository).setThumbnails(eq("imageId"), eq("blobId"), thumbnailIds.capture(), eq("image/jpeg"));
+        assertThat(thumbnailIds.getValue()).containsOnlyKeys("64", "256", "1024");
+    }
+
+    @Test
+    public void generateThumbnailsShouldSkipSizesLargerThanTheOriginal() throws IOException {
+        when(storedImageRepository.findById("imageId")).thenReturn(Optional.of(image));
+        when(blobStorageService.load("blobId")).thenReturn(new ByteArrayResource(createPng(50, 50)));
+
+        thumbnailService.generateThumbnails("imageId");
+
+        verify(blobStorageService, never()).store(any(), anyString(), anyString());
+        verify(storedImageRepository, never()).setThumbnails(anyString(), anyString(), anyMap(), anyString());
+    }
+
+    @Test
+    public void generateThumbnailsShouldDeleteThumbnailsWhenImageWasCollectedMeanwhile() throws IOException {
+        when(storedImageRepository.findById("imageId")).thenReturn(Optional.of(image));
+        when(blobStorageService.load("blobId")).thenReturn(new ByteArrayResource(createPng(100, 100)));
+        when(blobStorageService.store(any(), anyString(), anyString())).thenReturn("thumbnailId");
+        when(storedImageRepository.setThumbnails(eq("imageId"), eq("blobId"), anyMap(), anyString())).thenReturn(false);
+
+        thumbnailService.generateThumbnails("imageId");
+
+        verify(blobStorageService).delete("thumbnailId");
+    }
+
+    @Test
+    public void generateThumbnailsShouldDoNothingWhenImageWasCollected() {
+        when(storedImageRepository.findById("imageId")).thenReturn(Optional.empty());
+
+        thumbnailService.generateThumbnails("imageId");
+
+        verify(blobStorageService, never()).load(anyString());
+    }
+
+    @Test
+    public void generateThumbnailsShouldDoNothingWhenImageCannotBeDecoded() {
+        when(storedImageRepository.findById("imageId")).thenReturn(Optional.of(image));
+        when(blobStorageService.load("blobId")).thenReturn(new ByteArrayResource("not an image".getBytes()));
+
+        thumbnailService.generateThumbnails("imageId");
+
+        verify(blobStorageService, never()).store(any(), anyString(), anyString());
+    }
+
+    private static byte[] createPng(int width, int height) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", output);
+        return output.toByteArray();
+    }
+
+}
@@ -1,45 +1,76 @@
 package com.test.todo_list_backend.tests;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.test.todo_list_backend.factories.TodoFactory;
 import com.test.todo_list_backend.factories.UserFactory;
+import com.test.todo_list_backend.models.dtos.CursorPageResponseDTO;
+import com.test.todo_list_backend.models.dtos.SliceResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoBatchItemResultDTO;
+import com.test.todo_list_backend.models.dtos.TodoBatchOperationDTO;
+import com.test.todo_list_backend.models.dtos.TodoBatchRequestDTO;
+import com.test.todo_list_backend.models.dtos.TodoBatchResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoImageResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoListItemResponseDTO;
 import com.test.todo_list_backend.models.dtos.TodoRequestDTO;
 import com.test.todo_list_backend.models.dtos.TodoResponseDTO;
+import com.test.todo_list_backend.models.dtos.TodoSearchResultDTO;
 import com.test.todo_list_backend.models.dtos.TodoUpdateRequestDTO;
 import com.test.todo_list_backend.models.dtos.TodosSummaryResponseDTO;
 import com.test.todo_list_backend.models.entities.Todo;
+import com.test.todo_list_backend.models.entities.TodoStats;
 import com.test.todo_list_backend.models.entities.User;
+import com.test.todo_list_backend.models.enums.TodoStatus;
+import com.test.todo_list_backend.repositories.TodoBulkWrite;
+import com.test.todo_list_backend.repositories.TodoBulkWriteResult;
 import com.test.todo_list_backend.repositories.TodoRepository;
+import com.test.todo_list_backend.services.ImageService;
+import com.test.todo_list_backend.services.TodoStatsService;
 import com.test.todo_list_backend.services.UserService;
 import com.test.todo_list_backend.services.exceptions.DefaultValidationError;
 import com.test.todo_list_backend.services.exceptions.ResourceNotFoundException;
 import com.test.todo_list_backend.services.impl.TodoServiceImpl;
+import com.test.todo_list_backend.utils.TodoCursor;
 
 @ExtendWith(MockitoExtension.class)
 public class TodoServiceTests {
@@ -50,6 +81,10 @@ public class TodoServiceTests {
     private TodoRepository todoRepository;
     @Mock
     private UserService userService;
+    @Mock
+    private ImageService imageService;
+    @Mock
+    private TodoStatsService todoStatsService;
 
     private Todo todo;
     private TodoRequestDTO todoRequest;
@@ -58,7 +93,8 @@ public class TodoServiceTests {
     private String existingId;
     private String nonExistingId;
     private Pageable pageable;
-    private Page<Todo> pageResponse;
+    private List<Todo> pageResponse;
+    private TodoStats stats;
     private MockMultipartFile mockImage;
 
     @BeforeEach
@@ -70,7 +106,14 @@ public class TodoServiceTests {
         this.existingId = "id";
         this.nonExistingId = "non-existing-id";
         this.pageable = PageRequest.of(0,3);
-        this.pageResponse = new PageImpl<>(new ArrayList<>(Arrays.asList(todo)));
+        this.pageResponse = new ArrayList<>(Arrays.asList(todo));
+        this.stats = TodoStats.builder()
+            .userId(user.getId())
+            .statusCounts(new HashMap<>(Map.of("NOT_STARTED", 3L, "IN_PROGRESS", 1L, "COMPLETED", 4L)))
+            .priorityCounts(new HashMap<>(Map.of("LOW", 8L)))
+            .openTodosByExpiryDate(new HashMap<>(Map.of("2020-01-01", 2L, "2999-01-01", 2L)))
+            .build();
+        this.setClock(LocalDateTime.of(2025, 4, 7, 10, 0));
 
         this.mockImage = new MockMultipartFile(
             "image",                   
@@ -82,30 +125,125 @@ public class TodoServiceTests {
 
     @Test
     public void findAllNotCompletedTodosFromConnectedUserShouldReturnPageOfTodoResponseDTO() {
-        when(userService.getConnectedUser()).thenReturn(user);
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoStatsService.getStats(user.getId())).thenReturn(stats);
         when(todoRepository.findAllNotCompletedTodosByUserId(user.getId(), pageable)).thenReturn(pageResponse);
 
-        Page<TodoResponseDTO> response = todoService.findAllNotCompletedTodosFromConnectedUser(pageable);
+        Page<TodoListItemResponseDTO> response = todoService.findAllNotCompletedTodosFromConnectedUser(pageable);
 
         assertThat(response.getContent()).isNotEmpty();
+        assertThat(response.getTotalElements()).isEqualTo(4L);
         assertThat(response.getContent().get(0).getId()).isEqualTo(todo.getId());
         assertThat(response.getContent().get(0).getTitle()).isEqualTo(todo.getTitle());
         assertThat(response.getContent().get(0).getDescription()).isEqualTo(todo.getDescription());
         assertThat(response.getContent().get(0).getStatus()).isEqualTo(todo.getStatus().getStatus());
+        assertThat(response.getContent().get(0).isHasImage()).isTrue();
+        assertThat(response.getContent().get(0).getImageUrl()).isEqualTo("/todos/id/image");
+        assertThat(response.getContent().get(0).getThumbnailUrl()).isEqualTo("/todos/id/image?size=64");
     }
 
     @Test
     public void findAllCompletedTodosFromConnectedUserShouldReturnPageOfResponseDTO() {
-        when(userService.getConnectedUser()).thenReturn(user);
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoStatsService.getStats(user.getId())).thenReturn(stats);
         when(todoRepository.findAllCompletedTodosByUserId(user.getId(), pageable)).thenReturn(pageResponse);
 
-        Page<TodoResponseDTO> response = todoService.findAllCompletedTodosFromConnectedUser(pageable);
+        Page<TodoListItemResponseDTO> response = todoService.findAllCompletedTodosFromConnectedUser(pageable);
 
         assertThat(response.getContent()).isNotEmpty();
+        assertThat(response.getTotalElements()).isEqualTo(4L);
         assertThat(response.getContent().get(0).getId()).isEqualTo(todo.getId());
         assertThat(response.getContent().get(0).getTitle()).isEqualTo(todo.getTitle());
         assertThat(response.getContent().get(0).getDescription()).isEqualTo(todo.getDescription());
         assertThat(response.getContent().get(0).getStatus()).isEqualTo(todo.getStatus().getStatus());
+        assertThat(response.getContent().get(0).isHasImage()).isTrue();
+        assertThat(response.getContent().get(0).getImageUrl()).isEqualTo("/todos/id/image");
+        assertThat(response.getContent().get(0).getThumbnailUrl()).isEqualTo("/todos/id/image?size=64");
+    }
+
+    @Test
+    public void findNotCompletedTodoSliceFromConnectedUserShouldReturnSliceWithoutReadingStats() {
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoRepository.findNotCompletedTodoSliceByUserId(user.getId(), pageable)).thenReturn(new SliceImpl<>(pageResponse, pageable, true));
+
+        SliceResponseDTO<TodoListItemResponseDTO> response = todoService.findNotCompletedTodoSliceFromConnectedUser(pageable);
+
+        assertThat(response.getContent()).hasSize(1);
+        assertThat(response.getContent().get(0).getId()).isEqualTo(todo.getId());
+        assertThat(response.getPage()).isZero();
+        assertThat(response.getSize()).isEqualTo(3);
+        assertThat(response.isHasNext()).isTrue();
+        verifyNoInteractions(todoStatsService);
+    }
+
+    @Test
+    public void findCompletedTodoSliceFromConnectedUserShouldReturnLastSlice() {
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoRepository.findCompletedTodoSliceByUserId(user.getId(), pageable)).thenReturn(new SliceImpl<>(pageResponse, pageable, false));
+
+        SliceResponseDTO<TodoListItemResponseDTO> response = todoService.findCompletedTodoSliceFromConnectedUser(pageable);
+
+        assertThat(response.getContent()).hasSize(1);
+        assertThat(response.isHasNext()).isFalse();
+    }
+
+    @Test
+    public void findNotCompletedTodosFromConnectedUserAfterShouldReturnNextCursorWhenMoreTodosExist() {
+        Todo last = TodoFactory.create();
+        last.setId("0123456789abcdef01234567");
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoRepository.findListItemsAfter(user.getId(), List.of(TodoStatus.NOT_STARTED, TodoStatus.IN_PROGRESS), null, 3))
+            .thenReturn(new ArrayList<>(List.of(todo, last, TodoFactory.create())));
+
+        CursorPageResponseDTO<TodoListItemResponseDTO> response = todoService.findNotCompletedTodosFromConnectedUserAfter(null, 2);
+
+        assertThat(response.getContent()).hasSize(2);
+        TodoCursor cursor = TodoCursor.decode(response.getNextCursor());
+        assertThat(cursor.getId()).isEqualTo(last.getId());
+        assertThat(cursor.getCreatedAt()).isEqualTo(last.getCreatedAt().truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    @Test
+    public void findCompletedTodosFromConnectedUserAfterShouldReturnNullCursorOnLastPage() {
+        String after = TodoCursor.encode(Todo.builder().id("0123456789abcdef01234567").createdAt(LocalDateTime.now()).build());
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoRepository.findListItemsAfter(eq(user.getId()), eq(List.of(TodoStatus.COMPLETED)), any(TodoCursor.class), eq(3)))
+            .thenReturn(new ArrayList<>(List.of(todo)));
+
+        CursorPageResponseDTO<TodoListItemResponseDTO> response = todoService.findCompletedTodosFromConnectedUserAfter(after, 2);
+
+        assertThat(response.getContent()).hasSize(1);
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void searchTodosFromConnectedUserShouldReturnImageFreeResultsWhenQueryIsValid() {
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoRepository.searchByUserId(user.getId(), "title", pageable)).thenReturn(new PageImpl<>(pageResponse, pageable, 1));
+
+        Page<TodoSearchResultDTO> response = todoService.searchTodosFromConnectedUser("title", pageable);
+
+        assertThat(response.getTotalElements()).isEqualTo(1);
+        assertThat(response.getContent().get(0).getTitle()).isEqualTo(todo.getTitle());
+        assertThat(response.getContent().get(0).getStatus()).isEqualTo(todo.getStatus().getStatus());
+    }
+
+    @Test
+    public void searchTodosFromConnectedUserShouldThrowDefaultValidationErrorWhenQueryIsBlank() {
+        assertThatThrownBy(() -> todoService.searchTodosFromConnectedUser(" ", pageable)).isInstanceOf(DefaultValidationError.class);
+        assertThatThrownBy(() -> todoService.searchTodosFromConnectedUser("a".repeat(201), pageable)).isInstanceOf(DefaultValidationError.class);
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    public void findCompletedTodosFromConnectedUserAfterShouldThrowDefaultValidationErrorWhenCursorIsInvalid() {
+        assertThatThrownBy(() -> todoService.findCompletedTodosFromConnectedUserAfter("not-a-cursor", 2)).isInstanceOf(DefaultValidationError.class);
+    }
+
+    @Test
+    public void findCompletedTodosFromConnectedUserAfterShouldThrowDefaultValidationErrorWhenLimitIsOutOfRange() {
+        assertThatThrownBy(() -> todoService.findCompletedTodosFromConnectedUserAfter(null, 0)).isInstanceOf(DefaultValidationError.class);
+        assertThatThrownBy(() -> todoService.findCompletedTodosFromConnectedUserAfter(null, 101)).isInstanceOf(DefaultValidationError.class);
     }
 
     @Test
@@ -126,10 +264,20 @@ public class TodoServiceTests {
 
     @Test
     public void createTodoShouldThrowNoExceptionWhenImageIsNotNull() {
-        when(userService.getConnectedUser()).thenReturn(user);
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(imageService.store(mockImage, "imagem.jpg", "image/jpeg")).thenReturn("imageId");
         when(todoRepository.save(any(Todo.class))).thenReturn(todo);
 
         assertThatCode(() -> todoService.createTodo(todoRequest, mockImage)).doesNotThrowAnyException();
+        verify(todoStatsService).recordCreated(any(Todo.class));
+    }
+
+    @Test
+    public void createTodoShouldThrowDefaultValidationErrorWhenImageIsNotAnImage() {
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        MockMultipartFile textFile = new MockMultipartFile("image", "file.html", "text/html", "<html>".getBytes());
+
+        assertThatThrownBy(() -> todoService.createTodo(todoRequest, textFile)).isInstanceOf(DefaultValidationError.class);
     }
 
     @Test
@@ -142,7 +290,11 @@ public class TodoServiceTests {
         when(todoRepository.findById(existingId)).thenReturn(Optional.of(todo));
         when(todoRepository.save(any(Todo.class))).thenReturn(todo);
 
+        when(imageService.store(mockImage, "imagem.jpg", "image/jpeg")).thenReturn("newImageId");
+
         assertThatCode(() -> todoService.updateTodo(existingId, todoUpdateRequest, mockImage)).doesNotThrowAnyException();
+        assertThat(todo.getImageId()).isEqualTo("newImageId");
+        verify(imageService).release("imageId");
     }
 
     @Test
@@ -151,6 +303,8 @@ public class TodoServiceTests {
         when(todoRepository.save(any(Todo.class))).thenReturn(todo);
 
         assertThatCode(() -> todoService.updateTodo(existingId, todoUpdateRequest, null)).doesNotThrowAnyException();
+        verify(imageService, never()).release(any());
+        verify(todoStatsService).recordUpdated(any(Todo.class), eq(todo));
     }
 
     @Test
@@ -160,38 +314,206 @@ public class TodoServiceTests {
         assertThatThrownBy(() -> todoService.updateTodo(nonExistingId, todoUpdateRequest, mockImage)).isInstanceOf(ResourceNotFoundException.class);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void executeBatchShouldRunAllValidOperationsInOneBulkWriteAndReportEachItem() {
+        Todo other = TodoFactory.create();
+        other.setId("otherId");
+        other.setImageId(null);
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoRepository.findByIdInAndUserId(any(), eq(user.getId()))).thenReturn(List.of(todo, other));
+        when(todoRepository.bulkWrite(eq(user.getId()), any())).thenReturn(TodoBulkWriteResult.empty());
+        TodoBatchRequestDTO request = new TodoBatchRequestDTO(List.of(
+            TodoBatchOperationDTO.builder().type(1).title("title").description("description").priority(1).expiresAt(LocalDateTime.now()).build(),
+            TodoBatchOperationDTO.builder().type(2).id("otherId").status(1).build(),
+            TodoBatchOperationDTO.builder().type(4).id(existingId).build(),
+            TodoBatchOperationDTO.builder().type(4).id(nonExistingId).build(),
+            TodoBatchOperationDTO.builder().type(1).title("title").build()));
+
+        TodoBatchResponseDTO response = todoService.executeBatch(request);
+
+        assertThat(response.getResults()).extracting(TodoBatchItemResultDTO::getStatus)
+            .containsExactly("CREATED", "UPDATED", "DELETED", "NOT_FOUND", "INVALID");
+        assertThat(response.getResults().get(0).getId()).isNotNull();
+        ArgumentCaptor<List<TodoBulkWrite>> writes = ArgumentCaptor.forClass(List.class);
+        verify(todoRepository).bulkWrite(eq(user.getId()), writes.capture());
+        assertThat(writes.getValue()).hasSize(3);
+        verify(todoStatsService).recordChanges(eq(user.getId()), any(), any());
+        verify(imageService).release("imageId");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void executeBatchShouldSetOnlyTheStatusAndGuardTheStatsFieldsWhenUpdatingStatus() {
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoRepository.findByIdInAndUserId(any(), eq(user.getId()))).thenReturn(List.of(todo));
+        when(todoRepository.bulkWrite(eq(user.getId()), any())).thenReturn(TodoBulkWriteResult.empty());
+        TodoBatchRequestDTO request = new TodoBatchRequestDTO(List.of(
+            TodoBatchOperationDTO.builder().type(2).id(existingId).status(3).build()));
+
+        todoService.executeBatch(request);
+
+        ArgumentCaptor<List<TodoBulkWrite>> writes = ArgumentCaptor.forClass(List.class);
+        verify(todoRepository).bulkWrite(eq(user.getId()), writes.capture());
+        TodoBulkWrite write = writes.getValue().get(0);
+        assertThat(write.getUpdate().getUpdateObject().get("$set", Document.class).keySet()).containsExactly("status");
+        assertThat(write.getGuard().getCriteriaObject().keySet()).containsExactlyInAnyOrder("status", "expiresAt");
+    }
+
+    @Test
+    public void executeBatchShouldReportFailedItemsAndSkipTheirSideEffects() {
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoRepository.findByIdInAndUserId(any(), eq(user.getId()))).thenReturn(List.of(todo));
+        when(todoRepository.bulkWrite(eq(user.getId()), any())).thenReturn(new TodoBulkWriteResult(Map.of(0, "write failed"), Set.of()));
+        TodoBatchRequestDTO request = new TodoBatchRequestDTO(List.of(
+            TodoBatchOperationDTO.builder().type(4).id(existingId).build(),
+            TodoBatchOperationDTO.builder().type(2).id(existingId).status(1).build()));
+
+        TodoBatchResponseDTO response = todoService.executeBatch(request);
+
+        assertThat(response.getResults()).extracting(TodoBatchItemResultDTO::getStatus).containsExactly("FAILED", "INVALID");
+        assertThat(response.getResults().get(0).getMessage()).isEqualTo("write failed");
+        verify(todoStatsService).recordChanges(user.getId(), List.of(), List.of());
+        verify(imageService, never()).release(any());
+    }
+
+    @Test
+    public void executeBatchShouldReportNotFoundAndSkipSideEffectsWhenWriteMatchedNothing() {
+        Todo other = TodoFactory.create();
+        other.setId("otherId");
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoRepository.findByIdInAndUserId(any(), eq(user.getId()))).thenReturn(List.of(todo, other));
+        when(todoRepository.bulkWrite(eq(user.getId()), any())).thenReturn(new TodoBulkWriteResult(Map.of(), Set.of(0, 1)));
+        TodoBatchRequestDTO request = new TodoBatchRequestDTO(List.of(
+            TodoBatchOperationDTO.builder().type(4).id(existingId).build(),
+            TodoBatchOperationDTO.builder().type(2).id("otherId").status(1).build()));
+
+        TodoBatchResponseDTO response = todoService.executeBatch(request);
+
+        assertThat(response.getResults()).extracting(TodoBatchItemResultDTO::getStatus).containsExactly("NOT_FOUND", "NOT_FOUND");
+        verify(todoStatsService).recordChanges(user.getId(), List.of(), List.of());
+        verify(imageService, never()).release(any());
+    }
+
+    @Test
+    public void executeBatchShouldReconcileStatsAndKeepImagesWhenDeletesRacedWithAnotherRequest() {
+        Todo other = TodoFactory.create();
+        other.setId("otherId");
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoRepository.findByIdInAndUserId(any(), eq(user.getId()))).thenReturn(List.of(todo, other));
+        when(todoRepository.bulkWrite(eq(user.getId()), any())).thenReturn(new TodoBulkWriteResult(Map.of(), Set.of(), Set.of(0, 1)));
+        TodoBatchRequestDTO request = new TodoBatchRequestDTO(List.of(
+            TodoBatchOperationDTO.builder().type(4).id(existingId).build(),
+            TodoBatchOperationDTO.builder().type(4).id("otherId").build()));
+
+        TodoBatchResponseDTO response = todoService.executeBatch(request);
+
+        assertThat(response.getResults()).extracting(TodoBatchItemResultDTO::getStatus).containsExactly("DELETED", "DELETED");
+        verify(todoStatsService).recordChanges(user.getId(), List.of(), List.of());
+        verify(todoStatsService).requestReconcile(user.getId());
+        verify(imageService, never()).release(any());
+    }
+
     @Test
     public void deleteShouldThrowNoExceptionWhenIdExists() {
-        when(todoRepository.existsById(existingId)).thenReturn(true);
+        when(todoRepository.findById(existingId)).thenReturn(Optional.of(todo));
         doNothing().when(todoRepository).deleteById(existingId);
 
         assertThatCode(() -> todoService.deleteTodo(existingId)).doesNotThrowAnyException();
+        verify(imageService).release("imageId");
+        verify(todoStatsService).recordDeleted(todo);
     }
 
     @Test
     public void deleteShouldThrowResourceNotFoundExceptionWhenIdDoesNotExist() {
-        when(todoRepository.existsById(nonExistingId)).thenReturn(false);
+        when(todoRepository.findById(nonExistingId)).thenReturn(Optional.empty());
         
         assertThatThrownBy(() -> todoService.deleteTodo(nonExistingId)).isInstanceOfAny(ResourceNotFoundException.class);
     }
 
+    @Test
+    public void findTodoImageShouldReturnTodoImageResponseDTOWhenTodoHasImage() {
+        TodoImageResponseDTO image = new TodoImageResponseDTO("imageId-64", "image/jpeg", new ByteArrayResource("image".getBytes()));
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoRepository.findByIdAndUserId(existingId, user.getId())).thenReturn(Optional.of(todo));
+        when(imageService.load("imageId", 64)).thenReturn(image);
+
+        TodoImageResponseDTO response = todoService.findTodoImage(existingId, 64);
+
+        assertThat(response).isEqualTo(image);
+    }
+
+    @Test
+    public void findTodoImageShouldThrowResourceNotFoundExceptionWhenTodoHasNoImage() {
+        todo.setImageId(null);
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoRepository.findByIdAndUserId(existingId, user.getId())).thenReturn(Optional.of(todo));
+
+        assertThatThrownBy(() -> todoService.findTodoImage(existingId, null)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    public void findTodoImageShouldThrowResourceNotFoundExceptionWhenTodoBelongsToAnotherUser() {
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoRepository.findByIdAndUserId(existingId, user.getId())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> todoService.findTodoImage(existingId, null)).isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(imageService);
+    }
+
+    @Test
+    public void getTodosVersionTagFromConnectedUserShouldChangeWhenStatsVersionChanges() {
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoStatsService.getStats(user.getId())).thenReturn(stats);
+        stats.setReconciledAt(LocalDateTime.of(2025, 4, 7, 10, 0));
+        stats.setVersion(41L);
+
+        String before = todoService.getTodosVersionTagFromConnectedUser();
+        stats.setVersion(42L);
+        String after = todoService.getTodosVersionTagFromConnectedUser();
+
+        assertThat(before).isEqualTo("41-1960fb14d00");
+        assertThat(after).isNotEqualTo(before);
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    public void getTodosSummaryVersionTagFromConnectedUserShouldChangeAfterMidnightWhenNothingWasWritten() {
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoStatsService.getStats(user.getId())).thenReturn(stats);
+        stats.getOpenTodosByExpiryDate().put("2025-04-07", 1L);
+
+        this.setClock(LocalDateTime.of(2025, 4, 7, 23, 59));
+        String beforeMidnight = todoService.getTodosSummaryVersionTagFromConnectedUser();
+        long overdueBeforeMidnight = todoService.getTodosSummaryFromConnectedUser().getOverdueTodos();
+        this.setClock(LocalDateTime.of(2025, 4, 8, 0, 1));
+        String afterMidnight = todoService.getTodosSummaryVersionTagFromConnectedUser();
+        long overdueAfterMidnight = todoService.getTodosSummaryFromConnectedUser().getOverdueTodos();
+
+        assertThat(afterMidnight).isNotEqualTo(beforeMidnight);
+        assertThat(overdueAfterMidnight).isEqualTo(overdueBeforeMidnight + 1);
+    }
+
     @Test
     public void getTodosSummaryFromConnectedUserShouldReturnCompleteSummaryWhenTodosListIsNotEmpty() {
-        when(userService.getConnectedUser()).thenReturn(user);
-        when(todoRepository.findByUserId(user.getId())).thenReturn(new ArrayList<>(Arrays.asList(todo)));
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoStatsService.getStats(user.getId())).thenReturn(stats);
 
         TodosSummaryResponseDTO response = todoService.getTodosSummaryFromConnectedUser();
 
         assertThat(response).isNotNull();
-        assertThat(response.getNotStartedTodosPercentage()).isEqualTo(BigDecimal.valueOf(1).setScale(2, RoundingMode.HALF_UP));
-        assertThat(response.getInProgressTodosPercentage()).isEqualTo(BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP));
-        assertThat(response.getCompletedTodosPercentage()).isEqualTo(BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP));
+        assertThat(response.getNotStartedTodosPercentage()).isEqualTo(new BigDecimal("0.38"));
+        assertThat(response.getInProgressTodosPercentage()).isEqualTo(new BigDecimal("0.13"));
+        assertThat(response.getCompletedTodosPercentage()).isEqualTo(new BigDecimal("0.50"));
+        assertThat(response.getOverdueTodos()).isEqualTo(2L);
     }
 
     @Test
     public void getTodosSummaryFromConnectedUserShouldReturnEmptySummaryWhenTodosListIsEmpty() {
-        when(userService.getConnectedUser()).thenReturn(user);
-        when(todoRepository.findByUserId(user.getId())).thenReturn(Collections.emptyList());
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        stats.setStatusCounts(new HashMap<>());
+        stats.setOpenTodosByExpiryDate(new HashMap<>());
+        when(todoStatsService.getStats(user.getId())).thenReturn(stats);
 
         TodosSummaryResponseDTO response = todoService.getTodosSummaryFromConnectedUser();
 
@@ -199,6 +521,22 @@ public class TodoServiceTests {
         assertThat(response.getNotStartedTodosPercentage()).isEqualTo(BigDecimal.ZERO);
         assertThat(response.getInProgressTodosPercentage()).isEqualTo(BigDecimal.ZERO);
         assertThat(response.getCompletedTodosPercentage()).isEqualTo(BigDecimal.ZERO);
+        assertThat(response.getOverdueTodos()).isZero();
+    }
+
+    @Test
+    public void reconcileTodosSummaryFromConnectedUserShouldRebuildStatsFromTodos() {
+        when(userService.getConnectedUserId()).thenReturn(user.getId());
+        when(todoStatsService.reconcile(user.getId())).thenReturn(stats);
+
+        TodosSummaryResponseDTO response = todoService.reconcileTodosSummaryFromConnectedUser();
+
+        assertThat(response.getCompletedTodosPercentage()).isEqualTo(new BigDecimal("0.50"));
+        verify(todoStatsService).reconcile(user.getId());
+    }
+
+    private void setClock(LocalDateTime now) {
+        ReflectionTestUtils.setField(todoService, "clock", Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
     }
 
 }
@@ -0,0 +1,229 @@
+package com.test.todo_list_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.test.todo_list_backend.factories.TodoFactory;
+import com.test.todo_list_backend.migrations.DataMigrationRunner;
+import com.test.todo_list_backend.models.dtos.TodoCountDTO;
+import com.test.todo_list_backend.models.entities.Todo;
+import com.test.todo_list_backend.models.entities.TodoStats;
+import com.test.todo_list_backend.models.enums.TodoPriority;
+import com.test.todo_list_backend.models.enums.TodoStatus;
+import com.test.todo_list_backend.repositories.TodoRepository;
+import com.test.todo_list_backend.repositories.TodoStatsRepository;
+import com.test.todo_list_backend.services.exceptions.ServiceOverloadedException;
+import com.test.todo_list_backend.services.impl.TodoStatsServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoStatsServiceTests {
+
+    @InjectMocks
+    private TodoStatsServiceImpl todoStatsService;
+    @Mock
+    private TodoStatsRepository todoStatsRepository;
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private DataMigrationRunner dataMigrationRunner;
+
+    private Todo todo;
+    private String userId;
+
+    @BeforeEach
+    public void setup() {
+        this.todo = TodoFactory.create();
+        this.todo.setExpiresAt(LocalDateTime.of(2025, 4, 7, 10, 0));
+        this.userId = todo.getUserId();
+        ReflectionTestUtils.setField(todoStatsService, "reconcileInterval", Duration.ofHours(1));
+    }
+
+    @Test
+    public void recordCreatedShouldIncrementStatusPriorityAndExpiryCounters() {
+        todoStatsService.recordCreated(todo);
+
+        verify(todoStatsRepository).incrementCounters(userId, Map.of(
+            "statusCounts.NOT_STARTED", 1L,
+            "priorityCounts.LOW", 1L,
+            "openTodosByExpiryDate.2025-04-07", 1L,
+            "version", 1L));
+    }
+
+    @Test
+    public void recordDeletedShouldDecrementCounters() {
+        todoStatsService.recordDeleted(todo);
+
+        verify(todoStatsRepository).incrementCounters(userId, Map.of(
+            "statusCounts.NOT_STARTED", -1L,
+            "priorityCounts.LOW", -1L,
+            "openTodosByExpiryDate.2025-04-07", -1L,
+            "version", 1L));
+    }
+
+    @Test
+    public void recordUpdatedShouldOnlyMoveChangedCountersWhenStatusChanges() {
+        Todo completed = TodoFactory.create();
+        completed.setExpiresAt(todo.getExpiresAt());
+        completed.setStatus(TodoStatus.COMPLETED);
+
+        todoStatsService.recordUpdated(todo, completed);
+
+        verify(todoStatsRepository).incrementCounters(userId, Map.of(
+            "statusCounts.NOT_STARTED", -1L,
+            "statusCounts.COMPLETED", 1L,
+            "openTodosByExpiryDate.2025-04-07", -1L,
+            "version", 1L));
+    }
+
+    @Test
+    public void recordUpdatedShouldOnlyBumpVersionWhenCountedFieldsDidNotChange() {
+        Todo renamed = TodoFactory.create();
+        renamed.setExpiresAt(todo.getExpiresAt());
+        renamed.setTitle("other title");
+
+        todoStatsService.recordUpdated(todo, renamed);
+
+        verify(todoStatsRepository).incrementCounters(userId, Map.of("version", 1L));
+    }
+
+    @Test
+    public void getStatsShouldCreateTheDocumentAndReconcileItWhenUserHasNoStatsYet() {
+        when(dataMigrationRunner.isCompleted()).thenReturn(true);
+        when(todoStatsRepository.findById(userId)).thenReturn(Optional.empty());
+        when(todoStatsRepository.insertIfAbsent(userId)).thenReturn(TodoStats.builder().userId(userId).version(0L).build());
+        when(todoRepository.countTodosByStatusPriorityAndExpiryDate(anyString(), anyString())).thenReturn(List.of(
+            new TodoCountDTO(TodoStatus.NOT_STARTED, TodoPriority.LOW, "2025-04-07", 2L),
+            new TodoCountDTO(TodoStatus.COMPLETED, TodoPriority.LOW, "2025-04-07", 1L),
+            new TodoCountDTO(TodoStatus.IN_PROGRESS, TodoPriority.EXTREME, "2025-04-08", 1L)));
+        when(todoStatsRepository.replaceCountersIfVersion(any(TodoStats.class), eq(0L))).thenReturn(true);
+
+        TodoStats stats = todoStatsService.getStats(userId);
+
+        assertThat(stats.getUserId()).isEqualTo(userId);
+        assertThat(stats.getVersion()).isEqualTo(1L);
+        assertThat(stats.getStatusCounts()).containsExactlyInAnyOrderEntriesOf(Map.of("NOT_STARTED", 2L, "COMPLETED", 1L, "IN_PROGRESS", 1L));
+        assertThat(stats.getPriorityCounts()).containsExactlyInAnyOrderEntriesOf(Map.of("LOW", 3L, "EXTREME", 1L));
+        assertThat(stats.getOpenTodosByExpiryDate()).containsExactlyInAnyOrderEntriesOf(Map.of("2025-04-07", 2L, "2025-04-08", 1L));
+    }
+
+    @Test
+    public void getStatsShouldRecountWhenAnIncrementLandsBetweenCreatingTheDocumentAndSwappingTheCounters() {
+        AtomicLong version = new AtomicLong();
+        AtomicBoolean created = new AtomicBoolean();
+        when(dataMigrationRunner.isCompleted()).thenReturn(true);
+        when(todoStatsRepository.findById(userId)).thenAnswer(invocation -> created.get()
+            ? Optional.of(TodoStats.builder().userId(userId).version(version.get()).build())
+            : Optional.empty());
+        when(todoStatsRepository.insertIfAbsent(userId)).thenAnswer(invocation -> {
+            created.set(true);
+            return TodoStats.builder().userId(userId).version(version.get()).build();
+        });
+        doAnswer(invocation -> version.incrementAndGet()).when(todoStatsRepository).incrementCounters(eq(userId), any());
+        when(todoStatsRepository.replaceCountersIfVersion(any(TodoStats.class), anyLong()))
+            .thenAnswer(invocation -> version.compareAndSet(invocation.getArgument(1), (long) invocation.getArgument(1) + 1));
+        // the first count sees the new todo while its $inc is still in flight, the second one runs after it landed
+        when(todoRepository.countTodosByStatusPriorityAndExpiryDate(anyString(), anyString()))
+            .thenAnswer(invocation -> {
+                todoStatsService.recordCreated(todo);
+                return List.of(new TodoCountDTO(TodoStatus.NOT_STARTED, TodoPriority.LOW, "2025-04-07", 1L));
+            })
+            .thenReturn(List.of(new TodoCountDTO(TodoStatus.NOT_STARTED, TodoPriority.LOW, "2025-04-07", 1L)));
+
+        TodoStats stats = todoStatsService.getStats(userId);
+
+        verify(todoRepository, times(2)).countTodosByStatusPriorityAndExpiryDate(anyString(), anyString());
+        verify(todoStatsRepository).replaceCountersIfVersion(any(TodoStats.class), eq(1L));
+        assertThat(stats.getVersion()).isEqualTo(2L);
+        assertThat(stats.getStatusCounts()).containsExactlyEntriesOf(Map.of("NOT_STARTED", 1L));
+    }
+
+    @Test
+    public void getStatsShouldReturnStoredStatsWithoutCountingWhenRecentlyReconciled() {
+        TodoStats stored = TodoStats.builder().userId(userId).version(3L).reconciledAt(LocalDateTime.now().minusMinutes(5)).build();
+        when(todoStatsRepository.findById(userId)).thenReturn(Optional.of(stored));
+
+        assertThat(todoStatsService.getStats(userId)).isSameAs(stored);
+        verify(todoRepository, never()).countTodosByStatusPriorityAndExpiryDate(anyString(), anyString());
+    }
+
+    @Test
+    public void getStatsShouldReturnStoredStatsWhenThePeriodicRecountCannotSettle() {
+        TodoStats stored = TodoStats.builder().userId(userId).version(3L).reconciledAt(LocalDateTime.now().minusHours(2)).build();
+        when(dataMigrationRunner.isCompleted()).thenReturn(true);
+        when(todoStatsRepository.findById(userId)).thenReturn(Optional.of(stored));
+        when(todoRepository.countTodosByStatusPriorityAndExpiryDate(anyString(), anyString())).thenReturn(List.of());
+        when(todoStatsRepository.replaceCountersIfVersion(any(TodoStats.class), anyLong())).thenReturn(false);
+
+        assertThat(todoStatsService.getStats(userId)).isSameAs(stored);
+        verify(todoRepository, times(3)).countTodosByStatusPriorityAndExpiryDate(anyString(), anyString());
+    }
+
+    @Test
+    public void getStatsShouldThrowServiceOverloadedExceptionWhenDataMigrationsAreStillRunning() {
+        when(dataMigrationRunner.isCompleted()).thenReturn(false);
+        when(todoStatsRepository.findById(userId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> todoStatsService.getStats(userId)).isInstanceOf(ServiceOverloadedException.class);
+        verify(todoRepository, never()).countTodosByStatusPriorityAndExpiryDate(anyString(), anyString());
+        verify(todoStatsRepository, never()).insertIfAbsent(anyString());
+    }
+
+    @Test
+    public void requestReconcileShouldClearReconciledAtWithoutCounting() {
+        todoStatsService.requestReconcile(userId);
+
+        verify(todoStatsRepository).clearReconciledAt(userId);
+        verify(todoRepository, never()).countTodosByStatusPriorityAndExpiryDate(anyString(), anyString());
+    }
+
+    @Test
+    public void reconcileShouldReplaceCountersGuardedByCurrentVersion() {
+        TodoStats current = TodoStats.builder().userId(userId).version(7L).build();
+        when(dataMigrationRunner.isCompleted()).thenReturn(true);
+        when(todoStatsRepository.findById(userId)).thenReturn(Optional.of(current));
+        when(todoRepository.countTodosByStatusPriorityAndExpiryDate(anyString(), anyString())).thenReturn(List.of());
+        when(todoStatsRepository.replaceCountersIfVersion(any(TodoStats.class), eq(7L))).thenReturn(true);
+
+        TodoStats stats = todoStatsService.reconcile(userId);
+
+        assertThat(stats.getVersion()).isEqualTo(8L);
+        verify(todoStatsRepository, never()).save(any(TodoStats.class));
+    }
+
+    @Test
+    public void reconcileShouldThrowServiceOverloadedExceptionWhenCountersKeepChanging() {
+        TodoStats current = TodoStats.builder().userId(userId).version(7L).build();
+        when(dataMigrationRunner.isCompleted()).thenReturn(true);
+        when(todoStatsRepository.findById(userId)).thenReturn(Optional.of(current));
+        when(todoRepository.countTodosByStatusPriorityAndExpiryDate(anyString(), anyString())).thenReturn(List.of());
+        when(todoStatsRepository.replaceCountersIfVersion(any(TodoStats.class), anyLong())).thenReturn(false);
+
+        assertThatThrownBy(() -> todoStatsService.reconcile(userId)).isInstanceOf(ServiceOverloadedException.class);
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.test.todo_list_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.test.todo_list_backend.factories.TodoFactory;
+import com.test.todo_list_backend.factories.UserFactory;
+import com.test.todo_list_backend.models.dtos.TodoImportResponseDTO;
+import com.test.todo_list_backend.models.entities.Todo;
+import com.test.todo_list_backend.models.enums.TodoStatus;
+import com.test.todo_list_backend.repositories.TodoBulkWrite;
+import com.test.todo_list_backend.repositories.TodoBulkWriteResult;
+import com.test.todo_list_backend.repositories.TodoRepository;
+import com.test.todo_list_backend.services.TodoStatsService;
+import com.test.todo_list_backend.services.UserService;
+import com.test.todo_list_backend.services.exceptions.PayloadTooLargeException;
+import com.test.todo_list_backend.services.exceptions.TodoImportAbortedException;
+import com.test.todo_list_backend.services.impl.TodoTransferServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoTransferServiceTests {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private TodoStatsService todoStatsService;
+    @Mock
+    private UserService userService;
+
+    private ObjectMapper objectMapper;
+    private TodoTransferServiceImpl todoTransferService;
+    private String userId;
+
+    @BeforeEach
+    public void setup() {
+        this.objectMapper = new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.todoTransferService = new TodoTransferServiceImpl(todoRepository, todoStatsService, userService, objectMapper);
+        ReflectionTestUtils.setField(todoTransferService, "batchSize", 2);
+        ReflectionTestUtils.setField(todoTransferService, "maxReportedErrors", 1);
+        ReflectionTestUtils.setField(todoTransferService, "maxLineLength", 200);
+        ReflectionTestUtils.setField(todoTransferService, "maxImportSize", DataSize.ofKilobytes(1));
+        this.userId = UserFactory.create().getId();
+        when(userService.getConnectedUserId()).thenReturn(userId);
+    }
+
+    @Test
+    public void exportTodosFromConnectedUserShouldWriteOneJsonObjectPerLine() throws Exception {
+        Todo completed = TodoFactory.create();
+        completed.setStatus(TodoStatus.COMPLETED);
+        when(todoRepository.streamAllByUserId(userId, 2)).thenReturn(Stream.of(TodoFactory.create(), completed));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        todoTransferService.exportTodosFromConnectedUser(outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("status").asInt()).isEqualTo(TodoStatus.NOT_STARTED.getStatus());
+        assertThat(objectMapper.readTree(lines[1]).get("status").asInt()).isEqualTo(TodoStatus.COMPLETED.getStatus());
+        assertThat(objectMapper.readTree(lines[1]).has("userId")).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void importTodosFromConnectedUserShouldInsertInChunksAndReportInvalidLines() {
+        String valid = "{\"title\":\"t\",\"description\":\"d\",\"priority\":1,\"status\":1,\"expiresAt\":\"2030-01-01T00:00:00\"}";
+        String body = String.join("\n", valid, "{not json", "", valid, "{\"title\":\"t\"}", valid);
+        when(todoRepository.bulkWrite(eq(userId), anyList())).thenReturn(TodoBulkWriteResult.empty(), new TodoBulkWriteResult(Map.of(0, "duplicate key"), Set.of()));
+
+        TodoImportResponseDTO response = todoTransferService.importTodosFromConnectedUser(
+            new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        ArgumentCaptor<List<TodoBulkWrite>> writes = ArgumentCaptor.forClass(List.class);
+        verify(todoRepository, times(2)).bulkWrite(eq(userId), writes.capture());
+        assertThat(writes.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        assertThat(writes.getAllValues().get(0).get(0).getInsert().getUserId()).isEqualTo(userId);
+        assertThat(writes.getAllValues().get(0).get(0).getInsert().getStatus()).isEqualTo(TodoStatus.COMPLETED);
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.getErrors()).hasSize(1);
+        assertThat(response.getErrors().get(0).getLine()).isEqualTo(2);
+        verify(todoStatsService, times(2)).recordChanges(eq(userId), eq(List.of()), anyList());
+    }
+
+    @Test
+    public void importTodosFromConnectedUserShouldAcceptCrlfLinesUpToTheLimit() {
+        String valid = "{\"title\":\"t\",\"description\":\"" + "d".repeat(100) + "\",\"priority\":1,\"status\":1,\"expiresAt\":\"2030-01-01T00:00:00\"}";
+        String line = valid.substring(0, valid.length() - 1) + ",\"x\":\"" + "x".repeat(200 - valid.length() - 7) + "\"}";
+        when(todoRepository.bulkWrite(eq(userId), anyList())).thenReturn(TodoBulkWriteResult.empty());
+
+        TodoImportResponseDTO response = todoTransferService.importTodosFromConnectedUser(
+            new ByteArrayInputStream((valid + "\r\n" + line + "\r\n").getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(line).hasSize(200);
+        assertThat(response.getImported() + response.getFailed()).isEqualTo(2);
+    }
+
+    @Test
+    public void importTodosFromConnectedUserShouldReportWhatWasStoredWhenALineIsTooLong() {
+        String valid = "{\"title\":\"t\",\"description\":\"d\",\"priority\":1,\"status\":1,\"expiresAt\":\"2030-01-01T00:00:00\"}";
+        String body = String.join("\n", valid, valid, valid, "{\"title\":\"" + "t".repeat(500) + "\"}", valid);
+        when(todoRepository.bulkWrite(eq(userId), anyList())).thenReturn(TodoBulkWriteResult.empty());
+
+        assertThatThrownBy(() -> todoTransferService.importTodosFromConnectedUser(
+            new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))))
+            .isInstanceOfSatisfying(TodoImportAbortedException.class, e -> {
+                assertThat(e.getCause()).isInstanceOf(PayloadTooLargeException.class);
+                assertThat(e.getReport().getImported()).isEqualTo(3);
+                assertThat(e.getReport().getAbortedReason()).contains("Line 4");
+            });
+        verify(todoRepository, times(2)).bulkWrite(eq(userId), anyList());
+    }
+
+    @Test
+    public void importTodosFromConnectedUserShouldThrowPayloadTooLargeWhenTheDecompressedBodyIsTooLarge() throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write("\n".repeat(4096).getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertThatThrownBy(() -> todoTransferService.importTodosFromConnectedUser(
+            new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))))
+            .isInstanceOf(TodoImportAbortedException.class)
+            .hasCauseInstanceOf(PayloadTooLargeException.class);
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.test.todo_list_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.test.todo_list_backend.config.CacheConfig;
+import com.test.todo_list_backend.models.entities.User;
+import com.test.todo_list_backend.repositories.UserRepositoryCustomImpl;
+
+@ExtendWith(MockitoExtension.class)
+public class UserRepositoryCacheTests {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private UserRepositoryCustomImpl userRepository;
+    private User user;
+
+    @BeforeEach
+    public void setup() {
+        this.cacheManager = new ConcurrentMapCacheManager(CacheConfig.USERS_BY_EMAIL, CacheConfig.USERS_BY_ID);
+        this.userRepository = new UserRepositoryCustomImpl(mongoTemplate, cacheManager);
+        this.user = User.builder().id("id").email("email").fullName("fullName").roles(new HashSet<>()).build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void findByEmailShouldNotExposeCachedInstanceToCallerMutations() {
+        when(mongoTemplate.findOne(any(Query.class), any())).thenReturn(user);
+
+        userRepository.findByEmail("email").orElseThrow().setFullName("changed");
+        User cached = userRepository.findByEmail("email").orElseThrow();
+        cached.setFullName("changed again");
+
+        assertThat(userRepository.findByEmail("email").orElseThrow().getFullName()).isEqualTo("fullName");
+        verify(mongoTemplate, times(1)).findOne(any(Query.class), any());
+    }
+
+    @Test
+    public void saveShouldEvictAgainWhenSurroundingTransactionCompletes() {
+        when(mongoTemplate.save(user)).thenReturn(user);
+        when(mongoTemplate.findById("id", User.class)).thenReturn(user);
+        TransactionSynchronizationManager.initSynchronization();
+
+        userRepository.save(user);
+        userRepository.findById("id");
+        assertThat(cacheManager.getCache(CacheConfig.USERS_BY_ID).get("id")).isNotNull();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(cacheManager.getCache(CacheConfig.USERS_BY_ID).get("id")).isNull();
+    }
+
+}
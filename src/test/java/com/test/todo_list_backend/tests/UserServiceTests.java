@@ -5,21 +5,25 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -27,6 +31,8 @@ import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
 
 import com.test.todo_list_backend.factories.RoleFactory;
 import com.test.todo_list_backend.factories.UserFactory;
@@ -43,7 +49,7 @@ import com.test.todo_list_backend.models.entities.User;
 import com.test.todo_list_backend.repositories.ActivationCodeRepository;
 import com.test.todo_list_backend.repositories.RoleRepository;
 import com.test.todo_list_backend.repositories.UserRepository;
-import com.test.todo_list_backend.services.EmailService;
+import com.test.todo_list_backend.services.EmailOutboxService;
 import com.test.todo_list_backend.services.exceptions.AccountNotActivatedException;
 import com.test.todo_list_backend.services.exceptions.AlreadyExistingEmailException;
 import com.test.todo_list_backend.services.exceptions.ExpiredActivationCodeException;
@@ -66,7 +72,7 @@ public class UserServiceTests {
     @Mock
     private ActivationCodeRepository activationCodeRepository;
     @Mock
-    private EmailService emailService;
+    private EmailOutboxService emailOutboxService;
     @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
@@ -74,8 +80,6 @@ public class UserServiceTests {
     @Mock
     private JwtDecoder jwtDecoder;
     @Mock
-    private AuthenticationManager authenticationManager;
-    @Mock
     private ObtainUserEmailFromJWT obtainUserEmailFromJWT;
 
     private User user;
@@ -83,7 +87,6 @@ public class UserServiceTests {
     private RegistrationRequestDTO registrationRequest;
     private LoginRequestDTO loginRequest;
     private Jwt jwt;
-    private Authentication authentication;
     private ActivationCode activationCode;
     private AccountActivationRequestDTO accountActivationRequest;
     private UpdatePasswordRequestDTO updatePasswordRequest;
@@ -91,6 +94,7 @@ public class UserServiceTests {
 
     @BeforeEach
     public void setup() {
+        ReflectionTestUtils.setField(userService, "transactionOperations", TransactionOperations.withoutTransaction());
         this.user = UserFactory.create();
         this.role = RoleFactory.create();
         this.registrationRequest = UserFactory.createRegistrationRequest();
@@ -107,7 +111,6 @@ public class UserServiceTests {
             })
             .claim("username", user.getEmail())
             .build();
-        this.authentication = new UsernamePasswordAuthenticationToken(user.getEmail(), user.getPassword());
     }
 
     @Test
@@ -117,6 +120,7 @@ public class UserServiceTests {
         when(userRepository.save(any(User.class))).thenReturn(user);
 
         assertThatCode(() -> userService.register(registrationRequest)).doesNotThrowAnyException();
+        verify(emailOutboxService).enqueueConfirmationEmail(any(), any(), any(), any());
     }
 
     @Test
@@ -128,19 +132,28 @@ public class UserServiceTests {
 
     @Test
     public void loginShouldReturnLoginResponseDTOWhenDataIsValid() {
-        when(userRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.of(user));
-        when(authenticationManager.authenticate(any(Authentication.class))).thenReturn(authentication);
+        when(userRepository.findLoginUserByEmail(loginRequest.getEmail())).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())).thenReturn(true);
         when(jwtEncoder.encode(any(JwtEncoderParameters.class))).thenReturn(jwt);
 
         LoginResponseDTO response = userService.login(loginRequest);
 
         assertThat(response.getToken()).isEqualTo(jwt.getTokenValue());
+        verify(userRepository, never()).findByEmail(any());
+    }
 
+    @Test
+    public void loginShouldThrowBadCredentialsExceptionWhenPasswordDoesNotMatch() {
+        when(userRepository.findLoginUserByEmail(loginRequest.getEmail())).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())).thenReturn(false);
+
+        assertThatThrownBy(() -> userService.login(loginRequest)).isInstanceOf(BadCredentialsException.class);
+        verifyNoInteractions(jwtEncoder);
     }
 
     @Test
     public void loginShouldThrowUsernameNotFoundExceptionWhenEmailDoesNotExist() {
-        when(userRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.empty());
+        when(userRepository.findLoginUserByEmail(loginRequest.getEmail())).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userService.login(loginRequest)).isInstanceOf(UsernameNotFoundException.class);
     }
@@ -148,23 +161,24 @@ public class UserServiceTests {
     @Test
     public void loginShouldThrowAccountNotActivatedExceptionWhenAccountIsNotActivated() {
         user.setActive(false);
-        when(userRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.of(user));
+        when(userRepository.findLoginUserByEmail(loginRequest.getEmail())).thenReturn(Optional.of(user));
 
         assertThatThrownBy(() -> userService.login(loginRequest)).isInstanceOf(AccountNotActivatedException.class);
     }
 
     @Test
     public void activateAccountShouldActivateUserAndThrowNoExceptionWhenCodeIsValid() {
-        when(activationCodeRepository.findByCode("code")).thenReturn(Optional.of(activationCode));
+        when(activationCodeRepository.findByCode(ActivationCode.hash("code"))).thenReturn(Optional.of(activationCode));
         when(userRepository.save(any(User.class))).thenReturn(user);
-        when(activationCodeRepository.save(any(ActivationCode.class))).thenReturn(activationCode);
 
         assertThatCode(() -> userService.activateAccount(accountActivationRequest)).doesNotThrowAnyException();
+        assertThat(user.isActive()).isTrue();
+        verify(activationCodeRepository).delete(activationCode);
     }
 
     @Test
     public void activateAccountShouldThrowResourceNotFoundExceptionWhenCodeDoesNotExist() {
-        when(activationCodeRepository.findByCode("code")).thenReturn(Optional.empty());
+        when(activationCodeRepository.findByCode(ActivationCode.hash("code"))).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userService.activateAccount(accountActivationRequest)).isInstanceOf(ResourceNotFoundException.class);
     }
@@ -172,9 +186,32 @@ public class UserServiceTests {
     @Test
     public void activateAccountShouldThrowExpiredActivationCodeExceptionWhenActivationCodeIsInvalid() {
         this.activationCode.setExpiresAt(LocalDateTime.now().minusMinutes(30L));
-        when(activationCodeRepository.findByCode("code")).thenReturn(Optional.of(activationCode));
+        when(activationCodeRepository.findByCode(ActivationCode.hash("code"))).thenReturn(Optional.of(activationCode));
 
         assertThatThrownBy(() -> userService.activateAccount(accountActivationRequest)).isInstanceOf(ExpiredActivationCodeException.class);
+        verify(activationCodeRepository).delete(activationCode);
+    }
+
+    @Test
+    public void generateCodeShouldReturnNineDigitsFromTheWholeAlphabet() {
+        Set<Character> digits = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            String code = userService.generateCode();
+            assertThat(code).matches("[0-9]{9}");
+            code.chars().forEach(c -> digits.add((char) c));
+        }
+
+        assertThat(digits).hasSize(10);
+    }
+
+    @Test
+    public void generateAndSaveActivationCodeShouldStoreHashedCode() {
+        ArgumentCaptor<ActivationCode> captor = ArgumentCaptor.forClass(ActivationCode.class);
+
+        String code = userService.generateAndSaveActivationCode(user);
+
+        verify(activationCodeRepository).save(captor.capture());
+        assertThat(captor.getValue().getCode()).isEqualTo(ActivationCode.hash(code)).isNotEqualTo(code);
     }
 
     @Test
@@ -220,6 +257,32 @@ public class UserServiceTests {
         assertThatThrownBy(() -> userService.getConnectedUser()).isInstanceOf(UsernameNotFoundException.class);
     }
 
+    @Test
+    public void getConnectedUserShouldLookUpUserByIdWhenTokenHasUserIdClaim() {
+        when(obtainUserEmailFromJWT.getUserId()).thenReturn(user.getId());
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        assertThat(userService.getConnectedUser()).isEqualTo(user);
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    public void getConnectedUserIdShouldReturnIdFromTokenClaimsWithoutQueryingUsers() {
+        when(obtainUserEmailFromJWT.getUserId()).thenReturn(user.getId());
+
+        assertThat(userService.getConnectedUserId()).isEqualTo(user.getId());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    public void getConnectedUserIdShouldLookUpUserByEmailWhenTokenHasNoUserIdClaim() {
+        when(obtainUserEmailFromJWT.getUserId()).thenReturn(null);
+        when(obtainUserEmailFromJWT.getUserEmail()).thenReturn(user.getEmail());
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+        assertThat(userService.getConnectedUserId()).isEqualTo(user.getId());
+    }
+
     @Test
     public void verifyExistingEmailShouldReturnTrueWhenEmailExists() {
         when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
@@ -252,6 +315,18 @@ public class UserServiceTests {
         assertThatCode(() -> spy.updateUserInfos(updateUserInfosRequest)).doesNotThrowAnyException();
     }
 
+    @Test
+    public void updateUserInfosShouldEvictPreviousEmailFromCacheWhenEmailChanges() {
+        UserServiceImpl spy = spy(this.userService);
+        doReturn(user).when(spy).getConnectedUser();
+        updateUserInfosRequest.setEmail("new-email");
+        when(userRepository.findByEmail("new-email")).thenReturn(Optional.empty());
+
+        spy.updateUserInfos(updateUserInfosRequest);
+
+        verify(userRepository).evictCachedUser(null, "email");
+    }
+
     @Test
     public void updateUserInfosShouldThrowNoExceptionWhenEmailExistsButIsFromCurrentLoggedUser() {
         UserServiceImpl spy = spy(this.userService);
@@ -0,0 +1,81 @@
+package com.test.todo_list_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.test.todo_list_backend.security.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordingStream;
+
+public class VirtualThreadPinningTests {
+
+    private static final Pattern SYNCHRONIZED = Pattern.compile("\\bsynchronized\\b");
+
+    @Test
+    public void mainSourcesShouldNotUseSynchronizedWhenRunningOnVirtualThreads() throws IOException {
+        List<Path> offenders;
+        try (Stream<Path> sources = Files.walk(Path.of("src/main/java"))) {
+            offenders = sources
+                .filter(path -> path.toString().endsWith(".java"))
+                .filter(VirtualThreadPinningTests::usesSynchronized)
+                .toList();
+        }
+
+        assertThat(offenders)
+            .as("synchronized pins virtual threads to their carrier on Java 21, use a ReentrantLock instead")
+            .isEmpty();
+    }
+
+    @Test
+    public void boundedPasswordEncoderShouldNotPinVirtualThreadsWhenCallersQueueUp() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(64);
+        executor.initialize();
+        BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), executor, Duration.ofSeconds(2), new SimpleMeterRegistry());
+        AtomicInteger pinned = new AtomicInteger();
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO);
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinned.incrementAndGet());
+            recording.startAsync();
+            try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 32; i++) {
+                    callers.submit(() -> passwordEncoder.matches("12345Az@", passwordEncoder.encode("12345Az@")));
+                }
+            }
+            recording.stop();
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        assertThat(pinned.get()).as("jdk.VirtualThreadPinned events").isZero();
+    }
+
+    private static boolean usesSynchronized(Path path) {
+        try {
+            return SYNCHRONIZED.matcher(Files.readString(path)).find();
+        }
+        catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
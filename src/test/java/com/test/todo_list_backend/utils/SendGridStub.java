@@ -0,0 +1,28 @@
+package com.test.todo_list_backend.utils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.sendgrid.Request;
+import com.sendgrid.Response;
+import com.sendgrid.SendGrid;
+
+public class SendGridStub extends SendGrid {
+
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+
+    public SendGridStub() {
+        super("stub");
+    }
+
+    @Override
+    public Response api(Request request) {
+        requests.add(request);
+        return new Response(202, "", null);
+    }
+
+    public List<Request> getRequests() {
+        return requests;
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.test.todo_list_backend.utils;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+@TestConfiguration
+public class SendGridStubConfig {
+
+    @Bean
+    @Primary
+    public SendGridStub sendGridStub() {
+        return new SendGridStub();
+    }
+
+}